@@ -0,0 +1,48 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.service.BookingService;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingInsertBenchmark {
+
+    private static final int ITEM_ID = 11;
+
+    private static final int BOOKER_ID = 2;
+
+    private final LocalDateTime firstStart = LocalDateTime.now().plusYears(5);
+
+    private int sequence;
+
+
+    @Benchmark
+    public Booking add(ShareItState state) {
+        LocalDateTime start = firstStart.plusHours(2L * sequence++);
+        BookingDto bookingDto = BookingDto.builder()
+                .itemId(ITEM_ID)
+                .start(start)
+                .end(start.plusHours(1))
+                .build();
+        return state.getBean(BookingService.class).add(BOOKER_ID, bookingDto);
+    }
+
+}
@@ -0,0 +1,128 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+
+@RequiredArgsConstructor
+public class DataSeeder {
+
+    public static final int HEAVY_OWNER_ID = 1;
+
+    public static final String SEARCH_TEXT = "drill";
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String[] WORDS = {
+            "drill", "ladder", "tent", "bicycle", "projector", "saw", "kayak", "camera", "grill", "speaker"
+    };
+
+    private static final String[] STATUSES = {"APPROVED", "APPROVED", "APPROVED", "WAITING", "REJECTED", "CANCELED"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int idAllocationSize;
+
+
+    public void seed(int bookings) {
+        seed(bookings, Math.max(100, bookings / 10));
+    }
+
+    public void seed(int bookings, int items) {
+        int users = Math.max(100, bookings / 100);
+        int requests = Math.max(10, items / 10);
+        LocalDateTime now = LocalDateTime.now();
+
+        insert("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users, (ps, id) -> {
+            ps.setInt(1, id);
+            ps.setString(2, "user " + id);
+            ps.setString(3, "user" + id + "@email.com");
+        });
+
+        insert("INSERT INTO requests (id, description, requestor_id, created) VALUES (?, ?, ?, ?)", requests,
+                (ps, id) -> {
+                    ps.setInt(1, id);
+                    ps.setString(2, "need a " + WORDS[id % WORDS.length]);
+                    ps.setInt(3, (id - 1) % users + 1);
+                    ps.setTimestamp(4, Timestamp.valueOf(now.minusMinutes(id)));
+                });
+
+        insert("INSERT INTO items (id, name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?, ?)",
+                items, (ps, id) -> {
+                    ps.setInt(1, id);
+                    ps.setString(2, WORDS[id % WORDS.length] + " " + id);
+                    ps.setString(3, "good " + WORDS[(id * 7) % WORDS.length] + " in working order");
+                    ps.setBoolean(4, id % 5 != 0);
+                    ps.setInt(5, ownerOf(id, users));
+                    if (id % 5 == 0) {
+                        ps.setInt(6, (id / 5 - 1) % requests + 1);
+                    } else {
+                        ps.setNull(6, Types.INTEGER);
+                    }
+                });
+
+        insert("INSERT INTO bookings (id, start_time, end_time, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?, ?)",
+                bookings, (ps, id) -> {
+                    int itemId = (id - 1) % items + 1;
+                    int bookerId = id % users + 1;
+                    if (bookerId == ownerOf(itemId, users)) {
+                        bookerId = bookerId % users + 1;
+                    }
+                    LocalDateTime start = now.minusDays(365).plusHours((id * 37L) % (730 * 24));
+                    ps.setInt(1, id);
+                    ps.setTimestamp(2, Timestamp.valueOf(start));
+                    ps.setTimestamp(3, Timestamp.valueOf(start.plusDays(id % 5 + 1)));
+                    ps.setInt(4, itemId);
+                    ps.setInt(5, bookerId);
+                    ps.setString(6, STATUSES[id % STATUSES.length]);
+                });
+
+        insert("INSERT INTO comments (id, text, item_id, author_id, created) VALUES (?, ?, ?, ?, ?)", items / 2,
+                (ps, id) -> {
+                    ps.setInt(1, id);
+                    ps.setString(2, "comment " + id);
+                    ps.setInt(3, id * 2);
+                    ps.setInt(4, id % users + 1);
+                    ps.setTimestamp(5, Timestamp.valueOf(now.minusHours(id)));
+                });
+
+        jdbcTemplate.execute("INSERT INTO booking_counters (item_id, status, bookings_count)" +
+                " SELECT item_id, status, COUNT(*) FROM bookings GROUP BY item_id, status");
+
+        for (String table : List.of("users", "requests", "items", "bookings", "comments")) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + (bookings + items + idAllocationSize));
+        }
+    }
+
+
+    private static int ownerOf(int itemId, int users) {
+        return itemId % 10 == 0 ? HEAVY_OWNER_ID : (itemId - 1) % users + 1;
+    }
+
+    private void insert(String sql, int count, RowWriter writer) {
+        for (int first = 1; first <= count; first += BATCH_SIZE) {
+            int last = Math.min(count, first + BATCH_SIZE - 1);
+            List<Integer> ids = new ArrayList<>();
+            for (int id = first; id <= last; id++) {
+                ids.add(id);
+            }
+            jdbcTemplate.batchUpdate(sql, ids, BATCH_SIZE, writer::write);
+        }
+    }
+
+
+    private interface RowWriter {
+
+        void write(PreparedStatement ps, Integer id) throws SQLException;
+
+    }
+
+}
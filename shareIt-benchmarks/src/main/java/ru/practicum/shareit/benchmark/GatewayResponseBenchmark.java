@@ -0,0 +1,122 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayResponseBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"20", "100", "1000"})
+    public int bookings;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    private final WritableByteChannel sink = Channels.newChannel(OutputStream.nullOutputStream());
+
+    private byte[] body;
+
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        User owner = new User(1, "owner", "owner@email.com");
+        User booker = new User(2, "booker", "booker@email.com");
+        Item item = new Item(1, "item", "description", true, owner, null);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BookingDtoOut> response = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            response.add(BookingMapper.toBookingOut(Booking.builder()
+                    .id(i)
+                    .start(now.plusDays(i))
+                    .end(now.plusDays(i + 1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingState.APPROVED)
+                    .build()));
+        }
+
+        body = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public int parseAndSerialize() throws IOException {
+        Object parsed = objectMapper.readValue(join(chunks()), Object.class);
+        return sink.write(bufferFactory.wrap(objectMapper.writeValueAsBytes(parsed)).asByteBuffer());
+    }
+
+    @Benchmark
+    public int passthrough() throws IOException {
+        int written = 0;
+        for (DataBuffer chunk : chunks()) {
+            written += sink.write(chunk.asByteBuffer());
+        }
+        return written;
+    }
+
+
+    private List<DataBuffer> chunks() {
+        List<DataBuffer> chunks = new ArrayList<>(body.length / CHUNK_SIZE + 1);
+        for (int from = 0; from < body.length; from += CHUNK_SIZE) {
+            chunks.add(bufferFactory.wrap(Arrays.copyOfRange(body, from, Math.min(body.length, from + CHUNK_SIZE))));
+        }
+        return chunks;
+    }
+
+    private static byte[] join(List<DataBuffer> chunks) {
+        int length = 0;
+        for (DataBuffer chunk : chunks) {
+            length += chunk.readableByteCount();
+        }
+        byte[] joined = new byte[length];
+        int position = 0;
+        for (DataBuffer chunk : chunks) {
+            int count = chunk.readableByteCount();
+            chunk.read(joined, position, count);
+            position += count;
+        }
+        return joined;
+    }
+
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemBatchBenchmark {
+
+    private static final int ITEMS_PER_CALL = 500;
+
+    private int sequence;
+
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS_PER_CALL)
+    public List<Item> addOneByOne(ShareItState state) {
+        ItemService itemService = state.getBean(ItemService.class);
+        List<Item> items = new ArrayList<>(ITEMS_PER_CALL);
+        for (ItemDto itemDto : nextItems()) {
+            items.add(itemService.add(DataSeeder.HEAVY_OWNER_ID, itemDto));
+        }
+        return items;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS_PER_CALL)
+    public List<Item> addAll(ShareItState state) {
+        return state.getBean(ItemService.class).addAll(DataSeeder.HEAVY_OWNER_ID, nextItems());
+    }
+
+
+    private List<ItemDto> nextItems() {
+        List<ItemDto> items = new ArrayList<>(ITEMS_PER_CALL);
+        for (int i = 0; i < ITEMS_PER_CALL; i++) {
+            int id = sequence++;
+            items.add(ItemDto.builder()
+                    .name("onboarded " + id)
+                    .description("bulk onboarded item " + id)
+                    .available(true)
+                    .build());
+        }
+        return items;
+    }
+
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSearchBenchmark {
+
+    private static final String SHORT_SEARCH_TEXT = "dr";
+
+    @Param({"database", "memory"})
+    public String engine;
+
+    @Param({"1000000"})
+    public int items;
+
+    @Param({"50"})
+    public int idAllocationSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ItemService itemService;
+
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ShareItState.start(idAllocationSize, "shareit.search.engine=" + engine);
+
+        new DataSeeder(context.getBean(JdbcTemplate.class), idAllocationSize).seed(1000, items);
+
+        ShareItState.rebuildSearchIndex(context);
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Item> search() {
+        return itemService.search(DataSeeder.SEARCH_TEXT, 0, 20);
+    }
+
+    @Benchmark
+    public List<Item> searchShortText() {
+        return itemService.search(SHORT_SEARCH_TEXT, 0, 20);
+    }
+
+    @Benchmark
+    public List<Item> searchDeepPage() {
+        return itemService.search(DataSeeder.SEARCH_TEXT, items / 20, 20);
+    }
+
+}
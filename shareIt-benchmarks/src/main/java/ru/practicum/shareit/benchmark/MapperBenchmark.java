@@ -0,0 +1,101 @@
+package ru.practicum.shareit.benchmark;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.RequestDto;
+import ru.practicum.shareit.request.mapper.RequestMapper;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"20", "1000"})
+    public int size;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private List<Request> requests;
+
+    private List<Booking> bookings;
+
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User user = new User(1, "user", "user@email.com");
+        Item item = new Item(1, "item", "description", true, user, null);
+        LocalDateTime now = LocalDateTime.now();
+
+        requests = new ArrayList<>(size);
+        bookings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            requests.add(new Request(i, "request " + i, user, now.minusMinutes(i)));
+            bookings.add(Booking.builder()
+                    .id(i)
+                    .start(now.plusDays(i))
+                    .end(now.plusDays(i + 1))
+                    .item(item)
+                    .booker(user)
+                    .status(BookingState.APPROVED)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<RequestDto> requestsWithModelMapper() {
+        List<RequestDto> result = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            RequestDto requestDto = modelMapper.map(request, RequestDto.class);
+            requestDto.setItems(Collections.emptyList());
+            result.add(requestDto);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<RequestDto> requestsWithRequestMapper() {
+        List<RequestDto> result = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            result.add(RequestMapper.toRequestDto(request, Collections.emptyList()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<BookingDtoOut> bookingsWithBookingMapper() {
+        List<BookingDtoOut> result = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            result.add(BookingMapper.toBookingOut(booking));
+        }
+        return result;
+    }
+
+}
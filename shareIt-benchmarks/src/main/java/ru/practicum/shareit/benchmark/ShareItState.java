@@ -0,0 +1,73 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.search.InMemoryItemSearchEngine;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+
+
+@State(Scope.Benchmark)
+public class ShareItState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int bookings;
+
+    @Param({"50"})
+    public int idAllocationSize;
+
+    private ConfigurableApplicationContext context;
+
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = start(idAllocationSize);
+
+        new DataSeeder(context.getBean(JdbcTemplate.class), idAllocationSize).seed(bookings);
+
+        rebuildSearchIndex(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+
+    static ConfigurableApplicationContext start(int idAllocationSize, String... properties) {
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:shareit-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=shareit",
+                        "shareit.id.allocation-size=" + idAllocationSize,
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.springframework.transaction.interceptor=WARN",
+                        "logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    static void rebuildSearchIndex(ConfigurableApplicationContext context) {
+        ItemSearchEngine searchEngine = context.getBean(ItemSearchEngine.class);
+        if (searchEngine instanceof InMemoryItemSearchEngine) {
+            ((InMemoryItemSearchEngine) searchEngine).rebuild();
+        }
+    }
+
+}
@@ -2,12 +2,15 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
 import ru.practicum.shareit.client.BaseClient;
 
 import java.util.Map;
@@ -19,29 +22,29 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
     }
 
 
-    public ResponseEntity<Object> bookItem(long userId, BookItemRequestDto requestDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> bookItem(long userId, BookItemRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
-    public ResponseEntity<Object> getBooking(long userId, Long bookingId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBooking(long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> updateBookingStatus(long userId, long bookingId, boolean approved) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateBookingStatus(long userId, long bookingId, boolean approved) {
         return patch("/" + bookingId + "?approved=" + approved, userId);
     }
 
-    public ResponseEntity<Object> getBookingsSent(long userId, String state, Long from, Long size) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateBookingStatuses(long userId, boolean approved,
+                                                                        BookingBatchDto batch) {
+        return patch("/batch?approved=" + approved, userId, batch);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsSent(long userId, String state, Long from, Long size) {
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
@@ -49,7 +52,7 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingsReceived(long userId, String state, Long from, Long size) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsReceived(long userId, String state, Long from, Long size) {
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
@@ -57,4 +60,31 @@ public class BookingClient extends BaseClient {
         return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
     }
 
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsSentAfter(long userId, String state, String after,
+                                                                       Long size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state,
+                "after", after,
+                "size", size);
+        return get("?state={state}&after={after}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsReceivedAfter(long userId, String state, String after,
+                                                                           Long size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state,
+                "after", after,
+                "size", size);
+        return get("/owner?state={state}&after={after}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsSummary(long userId) {
+        return get("/owner/summary", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportBookingsReceived(long userId, String format) {
+        Map<String, Object> parameters = Map.of("format", format);
+        return get("/owner/export?format={format}", userId, parameters, MediaType.ALL);
+    }
+
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking.controller;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,8 +13,11 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.BookingClient;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
@@ -32,59 +36,110 @@ public class BookingController {
 
 
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(REQUEST_HEADER) Long userId,
-                                      @Valid @RequestBody BookItemRequestDto bookingDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> add(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                      @Valid @RequestBody BookItemRequestDto bookingDto) {
         log.info("Start saving booking {}", bookingDto);
-        ResponseEntity<Object> response = bookingClient.bookItem(userId, bookingDto);
-        log.info("Finish saving booking {}", response);
-        return response;
+        return bookingClient.bookItem(userId, bookingDto)
+                .doOnNext(response -> log.info("Finish saving booking {}", response));
+    }
+
+    @PatchMapping("/batch")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateBookingStatuses(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                        @RequestParam("approved") boolean approved,
+                                                                        @Valid @RequestBody BookingBatchDto batch) {
+        log.info("Start updating booking status for {} bookings", batch.getBookingIds().size());
+        return bookingClient.updateBookingStatuses(userId, approved, batch)
+                .doOnNext(response -> log.info("Finish updating booking status for {} bookings",
+                        batch.getBookingIds().size()));
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateBookingStatus(@RequestHeader(REQUEST_HEADER) Long userId,
-                                                      @PathVariable("bookingId") Long bookingId,
-                                                      @RequestParam("approved") boolean approved) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateBookingStatus(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                      @PathVariable("bookingId") Long bookingId,
+                                                                      @RequestParam("approved") boolean approved) {
         log.info("Start updating booking status for bookingId {}", bookingId);
-        ResponseEntity<Object> response = bookingClient.updateBookingStatus(userId, bookingId, approved);
-        log.info("Finish updating booking status for bookingId {}", response);
-        return response;
+        return bookingClient.updateBookingStatus(userId, bookingId, approved)
+                .doOnNext(response -> log.info("Finish updating booking status for bookingId {}", response));
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBookingByBookingId(@RequestHeader(REQUEST_HEADER) Long userId,
-                                                        @PathVariable Long bookingId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingByBookingId(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                        @PathVariable Long bookingId) {
         log.info("Start fetching booking with id = {}", bookingId);
-        ResponseEntity<Object> response = bookingClient.getBooking(userId, bookingId);
-        log.info("Finish fetching booking with id = {}", bookingId);
-        return response;
+        return bookingClient.getBooking(userId, bookingId)
+                .doOnNext(response -> log.info("Finish fetching booking with id = {}", bookingId));
     }
 
     @GetMapping
-    public ResponseEntity<Object> getBookingsSentByUserId(@RequestHeader(REQUEST_HEADER) Long userId,
-                                                          @RequestParam(value = "state",
-                                                                  defaultValue = "ALL") String state,
-                                                          @PositiveOrZero @RequestParam(required = false,
-                                                                  defaultValue = "0") Long from,
-                                                          @Positive @RequestParam(required = false,
-                                                                  defaultValue = "100") Long size) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsSentByUserId(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                          @RequestParam(value = "state",
+                                                                                  defaultValue = "ALL") String state,
+                                                                          @PositiveOrZero @RequestParam(required = false,
+                                                                                  defaultValue = "0") Long from,
+                                                                          @Positive @RequestParam(required = false,
+                                                                                  defaultValue = "100") Long size) {
         log.info("Start fetching bookings with state '{}' from user with id = {}", state, userId);
-        ResponseEntity<Object> response = bookingClient.getBookingsSent(userId, state.toUpperCase(), from, size);
-        log.info("Finish fetching bookings with state '{}' from user with id = {}", state, userId);
-        return response;
+        return bookingClient.getBookingsSent(userId, state.toUpperCase(), from, size)
+                .doOnNext(response -> log.info("Finish fetching bookings with state '{}' from user with id = {}",
+                        state, userId));
+    }
+
+    @GetMapping(params = "after")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsSentByUserIdAfter(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                               @RequestParam(value = "state",
+                                                                                       defaultValue = "ALL") String state,
+                                                                               @RequestParam("after") String after,
+                                                                               @Positive @RequestParam(required = false,
+                                                                                       defaultValue = "100") Long size) {
+        log.info("Start fetching bookings with state '{}' from user with id = {} after cursor '{}'", state, userId,
+                after);
+        return bookingClient.getBookingsSentAfter(userId, state.toUpperCase(), after, size)
+                .doOnNext(response -> log.info("Finish fetching bookings with state '{}' from user with id = {}" +
+                        " after cursor '{}'", state, userId, after));
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getBookingsReceivedByUserId(@RequestHeader(REQUEST_HEADER) Long userId,
-                                                              @RequestParam(value = "state",
-                                                                      defaultValue = "ALL") String state,
-                                                              @PositiveOrZero @RequestParam(required = false,
-                                                                      defaultValue = "0") Long from,
-                                                              @Positive @RequestParam(required = false,
-                                                                      defaultValue = "100") Long size) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsReceivedByUserId(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                              @RequestParam(value = "state",
+                                                                                      defaultValue = "ALL") String state,
+                                                                              @PositiveOrZero @RequestParam(required = false,
+                                                                                      defaultValue = "0") Long from,
+                                                                              @Positive @RequestParam(required = false,
+                                                                                      defaultValue = "100") Long size) {
         log.info("Start fetching bookings with state '{}' for user with id = {}", state, userId);
-        ResponseEntity<Object> response = bookingClient.getBookingsReceived(userId, state.toUpperCase(), from, size);
-        log.info("Finish fetching bookings with state '{}' for user with id = {}", state, userId);
-        return response;
+        return bookingClient.getBookingsReceived(userId, state.toUpperCase(), from, size)
+                .doOnNext(response -> log.info("Finish fetching bookings with state '{}' for user with id = {}",
+                        state, userId));
+    }
+
+    @GetMapping(path = "/owner", params = "after")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsReceivedByUserIdAfter(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                                   @RequestParam(value = "state",
+                                                                                           defaultValue = "ALL") String state,
+                                                                                   @RequestParam("after") String after,
+                                                                                   @Positive @RequestParam(required = false,
+                                                                                           defaultValue = "100") Long size) {
+        log.info("Start fetching bookings with state '{}' for user with id = {} after cursor '{}'", state, userId,
+                after);
+        return bookingClient.getBookingsReceivedAfter(userId, state.toUpperCase(), after, size)
+                .doOnNext(response -> log.info("Finish fetching bookings with state '{}' for user with id = {}" +
+                        " after cursor '{}'", state, userId, after));
+    }
+
+    @GetMapping("/owner/summary")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsSummaryByUserId(@RequestHeader(REQUEST_HEADER) Long userId) {
+        log.info("Start fetching bookings summary for user with id = {}", userId);
+        return bookingClient.getBookingsSummary(userId)
+                .doOnNext(response -> log.info("Finish fetching bookings summary for user with id = {}", userId));
+    }
+
+    @GetMapping("/owner/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportBookingsReceivedByUserId(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                                 @RequestParam(value = "format",
+                                                                                         defaultValue = "ndjson") String format) {
+        log.info("Start exporting bookings as {} for user with id = {}", format, userId);
+        return bookingClient.exportBookingsReceived(userId, format)
+                .doOnNext(response -> log.info("Finish exporting bookings as {} for user with id = {}", format, userId));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingBatchDto {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> bookingIds;
+
+}
@@ -2,16 +2,21 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemBatchDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -20,42 +25,72 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
     }
 
 
-    public ResponseEntity<Object> add(long ownerId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> add(long ownerId, ItemDto itemDto) {
         return post("", ownerId, itemDto);
     }
 
-    public ResponseEntity<Object> getItem(long itemId, long ownerId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addAll(long ownerId, ItemBatchDto batch) {
+        return post("/batch", ownerId, batch);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItem(long itemId, long ownerId) {
         return get("/" + itemId, ownerId);
     }
 
-    public ResponseEntity<Object> getItems(long ownerId, long from, long size) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItems(long ownerId, long from, long size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size);
         return get("?from={from}&size={size}", ownerId, parameters);
     }
 
-    public ResponseEntity<Object> update(long ownerId, long itemId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsAfter(long ownerId, String after, long size) {
+        Map<String, Object> parameters = Map.of(
+                "after", after,
+                "size", size);
+        return get("?after={after}&size={size}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(long ownerId, long itemId, ItemDto itemDto) {
         return patch("/" + itemId, ownerId, itemDto);
     }
 
-    public ResponseEntity<Object> search(String text) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(String text, long from, long size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size);
+        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailability(long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to);
+        return get("/" + itemId + "/availability?from={from}&to={to}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailability(List<Long> itemIds, LocalDateTime from, LocalDateTime to) {
         Map<String, Object> parameters = Map.of(
-                "text", text);
-        return get("/search?text={text}", null, parameters);
+                "itemIds", itemIds.stream().map(String::valueOf).collect(Collectors.joining(",")),
+                "from", from,
+                "to", to);
+        return get("/availability?itemIds={itemIds}&from={from}&to={to}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getComments(long itemId, String after, long size) {
+        Map<String, Object> parameters = Map.of(
+                "after", after,
+                "size", size);
+        return get("/" + itemId + "/comments?after={after}&size={size}", null, parameters);
     }
 
-    public ResponseEntity<Object> addComment(long bookerId, long itemId, CommentDto commentDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addComment(long bookerId, long itemId, CommentDto commentDto) {
         return post("/" + itemId + "/comment", bookerId, commentDto);
     }
 
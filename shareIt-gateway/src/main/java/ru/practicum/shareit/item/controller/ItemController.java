@@ -2,6 +2,8 @@ package ru.practicum.shareit.item.controller;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,13 +14,18 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.ItemClient;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemBatchDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+import java.util.List;
 
 
 @RestController
@@ -33,59 +40,108 @@ public class ItemController {
 
 
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(REQUEST_HEADER) Long userId,
-                                      @Valid @RequestBody ItemDto item) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> add(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                      @Valid @RequestBody ItemDto item) {
         log.info("Start saving item {}", item);
-        ResponseEntity<Object> response = itemClient.add(userId, item);
-        log.info("Finish saving item {}", response);
-        return response;
+        return itemClient.add(userId, item)
+                .doOnNext(response -> log.info("Finish saving item {}", response));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addAll(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                         @Valid @RequestBody ItemBatchDto batch) {
+        log.info("Start saving {} items", batch.getItems().size());
+        return itemClient.addAll(userId, batch)
+                .doOnNext(response -> log.info("Finish saving {} items", batch.getItems().size()));
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> update(@RequestHeader(REQUEST_HEADER) Long userId,
-                                         @PathVariable("itemId") Long itemId,
-                                         @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                         @PathVariable("itemId") Long itemId,
+                                                         @RequestBody ItemDto itemDto) {
         log.info("Start updating item {}", itemDto);
-        ResponseEntity<Object> response = itemClient.update(userId, itemId, itemDto);
-        log.info("Finish updating item {}", response);
-        return response;
+        return itemClient.update(userId, itemId, itemDto)
+                .doOnNext(response -> log.info("Finish updating item {}", response));
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItemByItemId(@RequestHeader(REQUEST_HEADER) Long userId,
-                                                  @PathVariable Long itemId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemByItemId(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                  @PathVariable Long itemId) {
         log.info("Start fetching item with id = {}", itemId);
-        ResponseEntity<Object> response = itemClient.getItem(itemId, userId);
-        log.info("Finish fetching item with id = {}", itemId);
-        return response;
+        return itemClient.getItem(itemId, userId)
+                .doOnNext(response -> log.info("Finish fetching item with id = {}", itemId));
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItemsByUserId(@RequestHeader(REQUEST_HEADER) Long userId,
-                                                   @PositiveOrZero @RequestParam(required = false, defaultValue = "0") Long from,
-                                                   @Positive @RequestParam(required = false, defaultValue = "100") Long size) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsByUserId(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                   @PositiveOrZero @RequestParam(required = false, defaultValue = "0") Long from,
+                                                                   @Positive @RequestParam(required = false, defaultValue = "100") Long size) {
         log.info("Start fetching items for user with id = {}", userId);
-        ResponseEntity<Object> response = itemClient.getItems(userId, from, size);
-        log.info("Finish fetching items for user with id = {}", userId);
-        return response;
+        return itemClient.getItems(userId, from, size)
+                .doOnNext(response -> log.info("Finish fetching items for user with id = {}", userId));
+    }
+
+    @GetMapping(params = "after")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsByUserIdAfter(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                                        @RequestParam("after") String after,
+                                                                        @Positive @RequestParam(required = false, defaultValue = "100") Long size) {
+        log.info("Start fetching items for user with id = {} after cursor '{}'", userId, after);
+        return itemClient.getItemsAfter(userId, after, size)
+                .doOnNext(response -> log.info("Finish fetching items for user with id = {} after cursor '{}'",
+                        userId, after));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> search(@RequestParam(required = false) String text) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(@RequestParam(required = false) String text,
+                                                         @PositiveOrZero @RequestParam(required = false, defaultValue = "0") Long from,
+                                                         @Positive @RequestParam(required = false, defaultValue = "100") Long size) {
         log.info("Start fetching items by name/description using 'text' parameter = {}", text);
-        ResponseEntity<Object> response = itemClient.search(text);
-        log.info("Finish fetching items by name/description using 'text' parameter = {}", text);
-        return response;
+        return itemClient.search(text, from, size)
+                .doOnNext(response -> log.info("Finish fetching items by name/description using 'text' parameter = {}",
+                        text));
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailability(@PathVariable("itemId") Long itemId,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                                  LocalDateTime from,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                                  LocalDateTime to) {
+        log.info("Start fetching availability of item with id = {} from {} to {}", itemId, from, to);
+        return itemClient.getAvailability(itemId, from, to)
+                .doOnNext(response -> log.info("Finish fetching availability of item with id = {} from {} to {}",
+                        itemId, from, to));
+    }
+
+    @GetMapping("/availability")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailability(@RequestParam("itemIds") List<Long> itemIds,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                                  LocalDateTime from,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                                  LocalDateTime to) {
+        log.info("Start fetching availability of items with ids = {} from {} to {}", itemIds, from, to);
+        return itemClient.getAvailability(itemIds, from, to)
+                .doOnNext(response -> log.info("Finish fetching availability of items with ids = {} from {} to {}",
+                        itemIds, from, to));
+    }
+
+    @GetMapping("/{itemId}/comments")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getComments(@PathVariable("itemId") Long itemId,
+                                                              @RequestParam(required = false, defaultValue = "") String after,
+                                                              @Positive @RequestParam(required = false, defaultValue = "100") Long size) {
+        log.info("Start fetching comments of item with id = {} after cursor '{}'", itemId, after);
+        return itemClient.getComments(itemId, after, size)
+                .doOnNext(response -> log.info("Finish fetching comments of item with id = {} after cursor '{}'",
+                        itemId, after));
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(REQUEST_HEADER) Long userId,
-                                             @PathVariable("itemId") Long itemId,
-                                             @RequestBody CommentDto commentDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addComment(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                             @PathVariable("itemId") Long itemId,
+                                                             @RequestBody CommentDto commentDto) {
         log.info("Start adding comment {} to item with id = {}", commentDto, itemId);
-        ResponseEntity<Object> response = itemClient.addComment(userId, itemId, commentDto);
-        log.info("Finish adding comment {} to item with id = {}", response, itemId);
-        return response;
+        return itemClient.addComment(userId, itemId, commentDto)
+                .doOnNext(response -> log.info("Finish adding comment {} to item with id = {}", response, itemId));
     }
 
 }
\ No newline at end of file
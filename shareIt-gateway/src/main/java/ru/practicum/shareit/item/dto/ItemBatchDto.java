@@ -0,0 +1,23 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemBatchDto {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 1000)
+    private List<ItemDto> items;
+
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.RequestClient;
 import ru.practicum.shareit.request.dto.RequestDto;
 
@@ -31,39 +34,46 @@ public class RequestController {
 
 
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(REQUEST_HEADER) Long userId,
-                                      @Valid @RequestBody RequestDto requestDto) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> add(@RequestHeader(REQUEST_HEADER) Long userId,
+                                                      @Valid @RequestBody RequestDto requestDto) {
         log.info("Start saving request {}", requestDto);
-        ResponseEntity<Object> response = requestClient.add(userId, requestDto);
-        log.info("Finish saving request {}", response);
-        return response;
+        return requestClient.add(userId, requestDto)
+                .doOnNext(response -> log.info("Finish saving request {}", response));
     }
 
     @GetMapping
-    public ResponseEntity<Object> getRequestsSentByUserId(@RequestHeader(REQUEST_HEADER) Long userId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getRequestsSentByUserId(@RequestHeader(REQUEST_HEADER) Long userId) {
         log.info("Start fetching requests from user with id = {}", userId);
-        ResponseEntity<Object> response = requestClient.getRequestsSent(userId);
-        log.info("Finish fetching requests from user with id = {}", userId);
-        return response;
+        return requestClient.getRequestsSent(userId)
+                .doOnNext(response -> log.info("Finish fetching requests from user with id = {}", userId));
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getRequest(@PathVariable("requestId") Long requestId,
-                                             @RequestHeader(REQUEST_HEADER) Long userId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getRequest(@PathVariable("requestId") Long requestId,
+                                                             @RequestHeader(REQUEST_HEADER) Long userId) {
         log.info("Start fetching request with id = {}", requestId);
-        ResponseEntity<Object> response = requestClient.getRequest(userId, requestId);
-        log.info("Finish fetching request with id = {}", requestId);
-        return response;
+        return requestClient.getRequest(userId, requestId)
+                .doOnNext(response -> log.info("Finish fetching request with id = {}", requestId));
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getRequests(@PositiveOrZero @RequestParam(required = false, defaultValue = "0") Long from,
-                                              @Positive @RequestParam(required = false, defaultValue = "100") Long size,
-                                              @RequestHeader(REQUEST_HEADER) Long userId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getRequests(@PositiveOrZero @RequestParam(required = false, defaultValue = "0") Long from,
+                                                              @Positive @RequestParam(required = false, defaultValue = "100") Long size,
+                                                              @RequestHeader(REQUEST_HEADER) Long userId) {
         log.info("Start fetching requests using 'from' parameter = {} and 'size' parameter = {}", from, size);
-        ResponseEntity<Object> response = requestClient.getRequests(userId, from, size);
-        log.info("Finish fetching requests using 'from' parameter = {} and 'size' parameter = {}", from, size);
-        return response;
+        return requestClient.getRequests(userId, from, size)
+                .doOnNext(response -> log.info("Finish fetching requests using 'from' parameter = {} and 'size' parameter = {}",
+                        from, size));
     }
 
-}
\ No newline at end of file
+    @GetMapping(path = "/all", params = "after")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getRequestsAfter(@RequestParam("after") String after,
+                                                                   @Positive @RequestParam(required = false, defaultValue = "100") Long size,
+                                                                   @RequestHeader(REQUEST_HEADER) Long userId) {
+        log.info("Start fetching requests after cursor '{}' with 'size' parameter = {}", after, size);
+        return requestClient.getRequestsAfter(userId, after, size)
+                .doOnNext(response -> log.info("Finish fetching requests after cursor '{}' with 'size' parameter = {}",
+                        after, size));
+    }
+
+}
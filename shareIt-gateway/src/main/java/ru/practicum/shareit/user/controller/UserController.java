@@ -2,6 +2,7 @@ package ru.practicum.shareit.user.controller;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +12,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.UserClient;
 import ru.practicum.shareit.user.dto.UserDto;
 
@@ -27,42 +30,39 @@ public class UserController {
 
 
     @PostMapping
-    public ResponseEntity<Object> save(@Valid @RequestBody UserDto newUser) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> save(@Valid @RequestBody UserDto newUser) {
         log.info("Start saving user {}", newUser);
-        ResponseEntity<Object> response = userClient.save(newUser);
-        log.info("Finish saving user {}", response);
-        return response;
+        return userClient.save(newUser)
+                .doOnNext(response -> log.info("Finish saving user {}", response));
     }
 
     @PatchMapping(value = "/{userId}")
-    public ResponseEntity<Object> update(@PathVariable("userId") Long userId, @RequestBody UserDto user) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@PathVariable("userId") Long userId, @RequestBody UserDto user) {
         log.info("Start updating user {}", user);
-        ResponseEntity<Object> response = userClient.update(userId, user);
-        log.info("Finish updating user {}", response);
-        return response;
+        return userClient.update(userId, user)
+                .doOnNext(response -> log.info("Finish updating user {}", response));
     }
 
     @GetMapping(value = "/{userId}")
-    public ResponseEntity<Object> findById(@PathVariable("userId") Long userId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> findById(@PathVariable("userId") Long userId) {
         log.info("Start fetching user with id = {}", userId);
-        ResponseEntity<Object> response = userClient.findById(userId);
-        log.info("Finish fetching user with id = {}", userId);
-        return response;
+        return userClient.findById(userId)
+                .doOnNext(response -> log.info("Finish fetching user with id = {}", userId));
     }
 
     @GetMapping
-    public ResponseEntity<Object> findAll() {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> findAll() {
         log.info("Start fetching all users");
-        ResponseEntity<Object> response = userClient.findAll();
-        log.info("Finish fetching all users");
-        return response;
+        return userClient.findAll()
+                .doOnNext(response -> log.info("Finish fetching all users"));
     }
 
     @DeleteMapping(value = "/{userId}")
-    public void deleteById(@PathVariable("userId") Long userId) {
+    public Mono<Void> deleteById(@PathVariable("userId") Long userId) {
         log.info("Start deleting user with id = {}", userId);
-        userClient.delete(userId);
-        log.info("Finish deleting user with id = {}", userId);
+        return userClient.delete(userId)
+                .doOnNext(response -> log.info("Finish deleting user with id = {}", userId))
+                .then();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class BaseClientTest {
+
+    private final AtomicReference<ClientRequest> request = new AtomicReference<>();
+
+
+    @Test
+    void get_PassesThroughSuccessfulResponse() {
+        BaseClient client = client(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"id\":1,\"name\":\"Дрель\"}")
+                .build());
+
+        ResponseEntity<Flux<DataBuffer>> response = client.get("/items/1", 7L).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("{\"id\":1,\"name\":\"Дрель\"}", body(response));
+        assertEquals("7", request.get().headers().getFirst("X-Sharer-User-Id"));
+        assertEquals(List.of(MediaType.APPLICATION_JSON), request.get().headers().getAccept());
+    }
+
+    @Test
+    void get_PassesThroughErrorResponse() {
+        BaseClient client = client(ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"error\":\"Вещь не найдена.\",\"status\":\"NOT_FOUND\"}")
+                .build());
+
+        ResponseEntity<Flux<DataBuffer>> response = client.get("/items/42", 7L).block();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("{\"error\":\"Вещь не найдена.\",\"status\":\"NOT_FOUND\"}", body(response));
+    }
+
+    @Test
+    void get_DropsHopByHopHeaders() {
+        BaseClient client = client(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONNECTION, "keep-alive")
+                .header("Keep-Alive", "timeout=60")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .header("X-Next-Cursor", "abc")
+                .body("[]")
+                .build());
+
+        HttpHeaders headers = client.get("/items", 7L).block().getHeaders();
+
+        assertFalse(headers.containsKey(HttpHeaders.CONNECTION));
+        assertFalse(headers.containsKey("Keep-Alive"));
+        assertFalse(headers.containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertTrue(headers.containsKey(HttpHeaders.CONTENT_TYPE));
+        assertEquals("abc", headers.getFirst("X-Next-Cursor"));
+    }
+
+
+    private BaseClient client(ClientResponse response) {
+        return new BaseClient(WebClient.builder()
+                .baseUrl("http://shareit-server")
+                .exchangeFunction(clientRequest -> {
+                    request.set(clientRequest);
+                    return Mono.just(response);
+                })
+                .build());
+    }
+
+    private static String body(ResponseEntity<Flux<DataBuffer>> response) {
+        return DataBufferUtils.join(response.getBody())
+                .map(buffer -> {
+                    String body = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return body;
+                })
+                .block();
+    }
+
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+
+class ItemClientTest {
+
+    private final AtomicReference<ClientRequest> request = new AtomicReference<>();
+
+    private final ItemClient itemClient = new ItemClient("http://shareit-server", WebClient.builder()
+            .exchangeFunction(clientRequest -> {
+                request.set(clientRequest);
+                return Mono.just(ClientResponse.create(HttpStatus.OK).body("[]").build());
+            }));
+
+    private final LocalDateTime from = LocalDateTime.of(2026, 10, 18, 10, 0);
+
+    private final LocalDateTime to = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+
+    @Test
+    void getItemsAfter_EncodesCursor() {
+        itemClient.getItemsAfter(1, "MjAyNi0xMC0xOFQxMDowMA+/=", 20).block();
+
+        assertEquals(HttpMethod.GET, request.get().method());
+        assertEquals("/items", request.get().url().getRawPath());
+        assertEquals("after=MjAyNi0xMC0xOFQxMDowMA%2B%2F%3D&size=20", request.get().url().getRawQuery());
+        assertEquals("1", request.get().headers().getFirst("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void getAvailability_ExpandsPeriod() {
+        itemClient.getAvailability(5, from, to).block();
+
+        assertEquals("/items/5/availability", request.get().url().getRawPath());
+        assertEquals("from=2026-10-18T10%3A00&to=2026-10-19T10%3A00", request.get().url().getRawQuery());
+        assertNull(request.get().headers().getFirst("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void getAvailability_JoinsItemIds() {
+        itemClient.getAvailability(List.of(1L, 2L, 3L), from, to).block();
+
+        assertEquals("/items/availability", request.get().url().getRawPath());
+        assertEquals("itemIds=1%2C2%2C3&from=2026-10-18T10%3A00&to=2026-10-19T10%3A00",
+                request.get().url().getRawQuery());
+    }
+
+    @Test
+    void search_EncodesText() {
+        itemClient.search("дрель & пила", 0, 10).block();
+
+        assertEquals("/items/search", request.get().url().getRawPath());
+        assertEquals("text=%D0%B4%D1%80%D0%B5%D0%BB%D1%8C%20%26%20%D0%BF%D0%B8%D0%BB%D0%B0&from=0&size=10",
+                request.get().url().getRawQuery());
+    }
+
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking.controller;
 import javax.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,10 +13,19 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingExportFormat;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 
@@ -39,6 +49,17 @@ public class BookingController {
         return addedBooking;
     }
 
+    @PatchMapping("/batch")
+    public List<BookingBatchResultDto> updateBookingStatuses(@RequestHeader(REQUEST_HEADER) Integer userId,
+                                                             @RequestParam("approved") boolean approved,
+                                                             @Valid @RequestBody BookingBatchDto batch) {
+        log.info("Start updating booking status for {} bookings", batch.getBookingIds().size());
+        List<BookingBatchResultDto> results = bookingService.updateBookingStatuses(userId, batch.getBookingIds(),
+                approved);
+        log.info("Finish updating booking status for {} bookings", results.size());
+        return results;
+    }
+
     @PatchMapping("/{bookingId}")
     public Booking updateBookingStatus(@RequestHeader(REQUEST_HEADER) Integer userId,
                                        @PathVariable("bookingId") Integer bookingId,
@@ -70,6 +91,25 @@ public class BookingController {
 
     }
 
+    @GetMapping(params = "after")
+    public ResponseEntity<List<Booking>> getBookingsSentByUserIdAfter(@RequestHeader(REQUEST_HEADER) Integer userId,
+                                                                      @RequestParam(value = "state",
+                                                                              defaultValue = "ALL") String state,
+                                                                      @RequestParam("after") String after,
+                                                                      @RequestParam(required = false,
+                                                                              defaultValue = "100") Integer size) {
+        log.info("Start fetching bookings with state '{}' from user with id = {} after cursor '{}'", state, userId,
+                after);
+        List<Booking> fetchedBookings = bookingService.getBookingsSentAfter(userId, state.toUpperCase(),
+                PageCursor.decodeTimeAndId(after), size);
+        log.info("Finish fetching bookings with state '{}' from user with id = {} after cursor '{}'", state, userId,
+                after);
+        return ResponseEntity.ok()
+                .headers(PageCursor.nextPageHeaders(fetchedBookings, size,
+                        booking -> PageCursor.of(booking.getStart(), booking.getId())))
+                .body(fetchedBookings);
+    }
+
     @GetMapping("/owner")
     public List<Booking> getBookingsReceivedByUserId(@RequestHeader(REQUEST_HEADER) Integer userId,
                                                      @RequestParam(value = "state", defaultValue = "ALL") String state,
@@ -81,4 +121,81 @@ public class BookingController {
         return fetchedBookings;
     }
 
+    @GetMapping(path = "/owner", params = "after")
+    public ResponseEntity<List<Booking>> getBookingsReceivedByUserIdAfter(@RequestHeader(REQUEST_HEADER) Integer userId,
+                                                                          @RequestParam(value = "state",
+                                                                                  defaultValue = "ALL") String state,
+                                                                          @RequestParam("after") String after,
+                                                                          @RequestParam(required = false,
+                                                                                  defaultValue = "100") Integer size) {
+        log.info("Start fetching bookings with state '{}' for user with id = {} after cursor '{}'", state, userId,
+                after);
+        List<Booking> fetchedBookings = bookingService.getBookingsReceivedAfter(userId, state.toUpperCase(),
+                PageCursor.decodeTimeAndId(after), size);
+        log.info("Finish fetching bookings with state '{}' for user with id = {} after cursor '{}'", state, userId,
+                after);
+        return ResponseEntity.ok()
+                .headers(PageCursor.nextPageHeaders(fetchedBookings, size,
+                        booking -> PageCursor.of(booking.getStart(), booking.getId())))
+                .body(fetchedBookings);
+    }
+
+    @GetMapping("/owner/summary")
+    public BookingSummaryDto getBookingsSummaryByUserId(@RequestHeader(REQUEST_HEADER) Integer userId) {
+        log.info("Start fetching bookings summary for user with id = {}", userId);
+        BookingSummaryDto summary = bookingService.getBookingsSummary(userId);
+        log.info("Finish fetching bookings summary for user with id = {}", userId);
+        return summary;
+    }
+
+    @GetMapping("/owner/export")
+    public void exportBookingsReceivedByUserId(@RequestHeader(REQUEST_HEADER) Integer userId,
+                                               @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                               HttpServletResponse response) throws IOException {
+        BookingExportFormat exportFormat = BookingExportFormat.from(format);
+        log.info("Start exporting bookings as {} for user with id = {}", exportFormat, userId);
+        bookingService.exportBookingsReceived(userId, exportFormat, new ExportOutputStream(response, exportFormat));
+        log.info("Finish exporting bookings as {} for user with id = {}", exportFormat, userId);
+    }
+
+
+    private static class ExportOutputStream extends OutputStream {
+
+        private final HttpServletResponse response;
+
+        private final BookingExportFormat format;
+
+        private OutputStream out;
+
+        ExportOutputStream(HttpServletResponse response, BookingExportFormat format) {
+            this.response = response;
+            this.format = format;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+
+        private OutputStream target() throws IOException {
+            if (out == null) {
+                response.setContentType(format.getContentType());
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                out = response.getOutputStream();
+            }
+            return out;
+        }
+
+    }
+
 }
\ No newline at end of file
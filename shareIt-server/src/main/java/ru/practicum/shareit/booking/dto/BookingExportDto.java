@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.BookingState;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+@AllArgsConstructor
+public class BookingExportDto {
+
+    private Integer id;
+
+    private LocalDateTime start;
+
+    private LocalDateTime end;
+
+    private BookingState status;
+
+    private Integer itemId;
+
+    private String itemName;
+
+    private Integer bookerId;
+
+    private String bookerName;
+
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingSummaryDto {
+
+    private Map<String, Long> total;
+
+    private List<ItemSummary> items;
+
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ItemSummary {
+
+        private Integer itemId;
+
+        private Map<String, Long> counts;
+
+    }
+
+}
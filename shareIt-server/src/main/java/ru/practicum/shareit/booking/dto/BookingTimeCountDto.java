@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@Getter
+@AllArgsConstructor
+public class BookingTimeCountDto {
+
+    private Integer itemId;
+
+    private Long current;
+
+    private Long future;
+
+}
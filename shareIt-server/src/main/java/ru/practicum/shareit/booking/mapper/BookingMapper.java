@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking.mapper;
 
 import lombok.experimental.UtilityClass;
+import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoOut;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.mapper.ItemMapper;
@@ -10,6 +11,13 @@ import ru.practicum.shareit.user.mapper.UserMapper;
 @UtilityClass
 public class BookingMapper {
 
+    public Booking toBooking(BookingDto bookingDto) {
+        Booking booking = new Booking();
+        booking.setStart(bookingDto.getStart());
+        booking.setEnd(bookingDto.getEnd());
+        return booking;
+    }
+
     public BookingDtoOut toBookingOut(Booking booking) {
         return BookingDtoOut.builder()
                 .id(booking.getId())
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "booking_counters")
+@IdClass(BookingCounter.Key.class)
+public class BookingCounter {
+
+    @Id
+    @Column(name = "item_id")
+    private Integer itemId;
+
+    @Id
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private BookingState status;
+
+    @Column(name = "bookings_count", nullable = false)
+    private Long bookingsCount;
+
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private Integer itemId;
+
+        private BookingState status;
+
+    }
+
+}
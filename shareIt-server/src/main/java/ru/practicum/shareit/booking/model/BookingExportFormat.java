@@ -0,0 +1,23 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+@Getter
+@AllArgsConstructor
+public enum BookingExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    public static BookingExportFormat from(String format) {
+        for (BookingExportFormat exportFormat : values()) {
+            if (exportFormat.name().equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new BadRequestException(BookingExportFormat.class, format, "Неизвестный формат выгрузки: " + format);
+    }
+}
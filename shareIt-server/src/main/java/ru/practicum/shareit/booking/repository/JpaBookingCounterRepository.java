@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.model.BookingCounter;
+import ru.practicum.shareit.booking.model.BookingState;
+
+import java.util.List;
+
+public interface JpaBookingCounterRepository extends JpaRepository<BookingCounter, BookingCounter.Key> {
+
+    @Query("SELECT c FROM BookingCounter c WHERE c.itemId IN (SELECT i.id FROM Item i WHERE i.owner.id = :userId)")
+    List<BookingCounter> findAllByItemOwnerId(@Param("userId") Integer userId);
+
+    @Modifying
+    @Query("UPDATE BookingCounter c SET c.bookingsCount = c.bookingsCount + :delta" +
+            " WHERE c.itemId = :itemId AND c.status = :status")
+    int addToCount(@Param("itemId") Integer itemId, @Param("status") BookingState status, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE booking_counters SET bookings_count = bookings_count - (SELECT COUNT(*) FROM bookings b" +
+            " WHERE b.booker_id = :userId AND b.item_id = booking_counters.item_id" +
+            " AND b.status = booking_counters.status)" +
+            " WHERE item_id IN (SELECT b.item_id FROM bookings b WHERE b.booker_id = :userId)",
+            nativeQuery = true)
+    int subtractBookingsOfBooker(@Param("userId") Integer userId);
+
+}
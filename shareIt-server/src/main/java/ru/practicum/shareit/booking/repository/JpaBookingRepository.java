@@ -1,24 +1,196 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingExportDto;
+import ru.practicum.shareit.booking.dto.BookingTimeCountDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
-import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface JpaBookingRepository extends JpaRepository<Booking, Integer> {
 
+    String BY_BOOKER = "SELECT b FROM Booking b WHERE b.booker.id = :userId";
+
+    String BY_OWNER = "SELECT b FROM Booking b WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :userId)";
+
+    String AFTER_CURSOR = " AND b.start <= :start AND (b.start < :start OR b.id < :id)" +
+            " ORDER BY b.start DESC, b.id DESC";
+
+    @Override
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Optional<Booking> findById(Integer id);
+
+    @Query("SELECT b.item.id FROM Booking b WHERE b.id = :id")
+    Optional<Integer> findItemIdById(@Param("id") Integer id);
+
     List<Booking> findByItemIdAndBookerId(Integer itemId, Integer userId);
 
-    List<Booking> findAllByItemAndStatusOrderByStartAsc(Item item, BookingState status);
+    @Query(value = "SELECT (SELECT CAST(l.id AS INTEGER) FROM bookings l WHERE l.item_id = i.id AND l.status = :status" +
+            " AND l.start_time <= :now ORDER BY l.start_time DESC, l.id DESC LIMIT 1) FROM items i WHERE i.id IN (:itemIds)" +
+            " UNION SELECT (SELECT CAST(n.id AS INTEGER) FROM bookings n WHERE n.item_id = i.id AND n.status = :status" +
+            " AND n.start_time > :now ORDER BY n.start_time ASC, n.id ASC LIMIT 1) FROM items i WHERE i.id IN (:itemIds)",
+            nativeQuery = true)
+    List<Integer> findLastAndNextBookingIds(@Param("itemIds") Collection<Integer> itemIds,
+                                            @Param("status") String status,
+                                            @Param("now") LocalDateTime now);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findAllByIdIn(Collection<Integer> ids);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDescIdDesc(Integer itemId,
+                                                                                          BookingState status,
+                                                                                          LocalDateTime now);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findFirstByItemIdAndStatusAndStartAfterOrderByStartAscIdAsc(Integer itemId,
+                                                                                BookingState status,
+                                                                                LocalDateTime now);
+
+    @Query("SELECT b FROM Booking b WHERE b.id IN :ids AND b.item.owner.id = :userId")
+    List<Booking> findAllByIdInAndItemOwnerId(@Param("ids") Collection<Integer> ids, @Param("userId") Integer userId);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :status WHERE b.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Integer> ids, @Param("status") BookingState status);
+
+    List<Booking> findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(Collection<Integer> itemIds,
+                                                                                        Collection<BookingState> statuses,
+                                                                                        LocalDateTime to,
+                                                                                        LocalDateTime from);
+
+    boolean existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(Integer itemId, Collection<BookingState> statuses,
+                                                                LocalDateTime end, LocalDateTime start);
+
+    boolean existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(Integer itemId, Integer bookingId,
+                                                                        Collection<BookingState> statuses,
+                                                                        LocalDateTime end, LocalDateTime start);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Slice<Booking> findBookingsByBooker_Id(Integer userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Slice<Booking> findBookingsByBooker_IdAndStartBeforeAndEndAfter(Integer userId, LocalDateTime start,
+                                                                    LocalDateTime end, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Slice<Booking> findBookingsByBooker_IdAndEndBefore(Integer userId, LocalDateTime end, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Slice<Booking> findBookingsByBooker_IdAndStartAfter(Integer userId, LocalDateTime start, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Slice<Booking> findBookingsByBooker_IdAndStatus(Integer userId, BookingState status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER)
+    Slice<Booking> findBookingsByItem_Owner_Id(@Param("userId") Integer userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.start < :start AND b.end > :end")
+    Slice<Booking> findBookingsByItem_Owner_IdAndStartBeforeAndEndAfter(@Param("userId") Integer userId,
+                                                                        @Param("start") LocalDateTime start,
+                                                                        @Param("end") LocalDateTime end,
+                                                                        Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.end < :end")
+    Slice<Booking> findBookingsByItem_Owner_IdAndEndBefore(@Param("userId") Integer userId,
+                                                           @Param("end") LocalDateTime end, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.start > :start")
+    Slice<Booking> findBookingsByItem_Owner_IdAndStartAfter(@Param("userId") Integer userId,
+                                                            @Param("start") LocalDateTime start, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.status = :status")
+    Slice<Booking> findBookingsByItem_Owner_IdAndStatus(@Param("userId") Integer userId,
+                                                        @Param("status") BookingState status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_BOOKER + AFTER_CURSOR)
+    List<Booking> findBookingsByBookerAfter(@Param("userId") Integer userId, @Param("start") LocalDateTime start,
+                                            @Param("id") Integer id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_BOOKER + " AND b.start < :now AND b.end > :now" + AFTER_CURSOR)
+    List<Booking> findCurrentBookingsByBookerAfter(@Param("userId") Integer userId, @Param("now") LocalDateTime now,
+                                                   @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                                   Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_BOOKER + " AND b.end < :now" + AFTER_CURSOR)
+    List<Booking> findPastBookingsByBookerAfter(@Param("userId") Integer userId, @Param("now") LocalDateTime now,
+                                                @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                                Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_BOOKER + " AND b.start > :now" + AFTER_CURSOR)
+    List<Booking> findFutureBookingsByBookerAfter(@Param("userId") Integer userId, @Param("now") LocalDateTime now,
+                                                  @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                                  Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_BOOKER + " AND b.status = :status" + AFTER_CURSOR)
+    List<Booking> findBookingsByBookerAndStatusAfter(@Param("userId") Integer userId,
+                                                     @Param("status") BookingState status,
+                                                     @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                                     Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + AFTER_CURSOR)
+    List<Booking> findBookingsByOwnerAfter(@Param("userId") Integer userId, @Param("start") LocalDateTime start,
+                                           @Param("id") Integer id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.start < :now AND b.end > :now" + AFTER_CURSOR)
+    List<Booking> findCurrentBookingsByOwnerAfter(@Param("userId") Integer userId, @Param("now") LocalDateTime now,
+                                                  @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                                  Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.end < :now" + AFTER_CURSOR)
+    List<Booking> findPastBookingsByOwnerAfter(@Param("userId") Integer userId, @Param("now") LocalDateTime now,
+                                               @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                               Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.start > :now" + AFTER_CURSOR)
+    List<Booking> findFutureBookingsByOwnerAfter(@Param("userId") Integer userId, @Param("now") LocalDateTime now,
+                                                 @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                                 Pageable pageable);
 
-    List<Booking> findAllByItemInAndStatusOrderByStartAsc(List<Item> items, BookingState status);
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query(BY_OWNER + " AND b.status = :status" + AFTER_CURSOR)
+    List<Booking> findBookingsByOwnerAndStatusAfter(@Param("userId") Integer userId,
+                                                    @Param("status") BookingState status,
+                                                    @Param("start") LocalDateTime start, @Param("id") Integer id,
+                                                    Pageable pageable);
 
-    Page<Booking> findBookingsByBooker_Id(Integer userId, Pageable pageable);
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingTimeCountDto(i.id," +
+            " SUM(CASE WHEN b.start < :now THEN 1 ELSE 0 END), SUM(CASE WHEN b.start > :now THEN 1 ELSE 0 END))" +
+            " FROM Booking b JOIN b.item i WHERE i.owner.id = :userId AND b.end > :now GROUP BY i.id")
+    List<BookingTimeCountDto> countCurrentAndFutureByItemOwnerId(@Param("userId") Integer userId,
+                                                                 @Param("now") LocalDateTime now);
 
-    Page<Booking> findBookingsByItem_Owner_Id(Integer userId, Pageable pageable);
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingExportDto(b.id, b.start, b.end, b.status," +
+            " i.id, i.name, u.id, u.name) FROM Booking b JOIN b.item i JOIN b.booker u" +
+            " WHERE i.owner.id = :userId ORDER BY b.start DESC, b.id DESC")
+    Stream<BookingExportDto> streamAllByItemOwnerId(@Param("userId") Integer userId);
 
-}
\ No newline at end of file
+}
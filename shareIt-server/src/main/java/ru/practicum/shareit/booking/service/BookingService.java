@@ -1,8 +1,14 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingExportFormat;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface BookingService {
@@ -15,6 +21,16 @@ public interface BookingService {
 
     List<Booking> getBookingsReceived(Integer userId, String state, Integer from, Integer size);
 
+    List<Booking> getBookingsSentAfter(Integer userId, String state, PageCursor after, Integer size);
+
+    List<Booking> getBookingsReceivedAfter(Integer userId, String state, PageCursor after, Integer size);
+
+    BookingSummaryDto getBookingsSummary(Integer userId);
+
+    void exportBookingsReceived(Integer userId, BookingExportFormat format, OutputStream out) throws IOException;
+
     Booking updateBookingStatus(Integer userId, Integer bookingId, boolean approved);
 
+    List<BookingBatchResultDto> updateBookingStatuses(Integer userId, List<Integer> bookingIds, boolean approved);
+
 }
\ No newline at end of file
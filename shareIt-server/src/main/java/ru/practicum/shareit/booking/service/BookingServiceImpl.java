@@ -1,30 +1,55 @@
 package ru.practicum.shareit.booking.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingExportDto;
+import ru.practicum.shareit.booking.dto.BookingSummaryDto;
+import ru.practicum.shareit.booking.dto.BookingTimeCountDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCounter;
+import ru.practicum.shareit.booking.model.BookingExportFormat;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingTimeState;
+import ru.practicum.shareit.booking.repository.JpaBookingCounterRepository;
 import ru.practicum.shareit.booking.repository.JpaBookingRepository;
 import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.exceptions.EntityAlreadyExistsException;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.paginationvalidation.PaginationValidator;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.JpaUserRepository;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service
@@ -32,16 +57,24 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
 
+    private static final List<BookingState> ACTIVE_STATES = List.of(BookingState.WAITING, BookingState.APPROVED);
+
+    private static final String CSV_HEADER = "id,start,end,status,itemId,itemName,bookerId,bookerName\n";
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final JpaBookingRepository bookingRepository;
 
+    private final JpaBookingCounterRepository bookingCounterRepository;
+
     private final JpaUserRepository userRepository;
 
     private final JpaItemRepository itemRepository;
 
-    private final ModelMapper modelMapper;
-
     private final PaginationValidator paginationValidator;
 
+    private final ObjectMapper objectMapper;
+
 
     @Override
     @Transactional
@@ -51,6 +84,11 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Start/end time cannot be null");
         }
 
+        if (!bookingDto.getEnd().isAfter(bookingDto.getStart())) {
+            throw new BadRequestException(LocalDateTime.class, bookingDto.getStart() + " & " + bookingDto.getEnd(),
+                    "Дата окончания бронирования должна быть позже даты начала");
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
                         "Пользователь с id " + userId + " не найден."));
@@ -73,14 +111,26 @@ public class BookingServiceImpl implements BookingService {
                     "Предмет с id = " + item.getId() + " недоступен для бронирования");
         }
 
-        Booking newBooking = modelMapper.map(bookingDto, Booking.class);
+        itemRepository.lockById(item.getId());
+
+        if (bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(item.getId(), ACTIVE_STATES,
+                bookingDto.getEnd(), bookingDto.getStart())) {
+            throw new EntityAlreadyExistsException(Booking.class,
+                    "Предмет с id = " + item.getId() + " уже забронирован на период с " +
+                            bookingDto.getStart() + " по " + bookingDto.getEnd());
+        }
+
+        Booking newBooking = BookingMapper.toBooking(bookingDto);
 
         newBooking.setBooker(user);
         newBooking.setItem(item);
         newBooking.setStatus(BookingState.WAITING);
         newBooking.setBookingTimeState(BookingTimeState.ALL);
 
-        return bookingRepository.save(newBooking);
+        newBooking = bookingRepository.save(newBooking);
+        moveCounter(item.getId(), null, BookingState.WAITING, 1);
+
+        return newBooking;
 
     }
 
@@ -88,9 +138,16 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     public Booking updateBookingStatus(Integer userId, Integer bookingId, boolean approved) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        Integer itemId = bookingRepository.findItemIdById(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException(Booking.class, String.valueOf(bookingId),
+                        "Бронирование с id " + bookingId + " не найдено."));
+
+        itemRepository.lockById(itemId);
 
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new EntityNotFoundException(Booking.class, String.valueOf(bookingId),
@@ -112,13 +169,105 @@ public class BookingServiceImpl implements BookingService {
                     "Бронирование с id = " + bookingId + " уже подтверждено пользователем с id = " + userId);
         }
 
+        BookingState previousStatus = booking.getStatus();
+
         if (approved) {
+            if (bookingRepository.existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(item.getId(), bookingId,
+                    ACTIVE_STATES, booking.getEnd(), booking.getStart())) {
+                throw new EntityAlreadyExistsException(Booking.class,
+                        "Предмет с id = " + item.getId() + " уже забронирован на период с " +
+                                booking.getStart() + " по " + booking.getEnd());
+            }
+
             booking.setStatus(BookingState.APPROVED);
         } else {
             booking.setStatus(BookingState.REJECTED);
         }
 
-        return bookingRepository.save(booking);
+        booking = bookingRepository.save(booking);
+        moveCounter(item.getId(), previousStatus, booking.getStatus(), 1);
+
+        return booking;
+
+    }
+
+    @Override
+    @Transactional
+    public List<BookingBatchResultDto> updateBookingStatuses(Integer userId, List<Integer> bookingIds,
+                                                             boolean approved) {
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        List<Integer> ids = bookingIds.stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        itemRepository.lockAllByOwnerIdAndBookingIdIn(userId, ids);
+
+        Map<Integer, Booking> bookings = bookingRepository.findAllByIdInAndItemOwnerId(ids, userId)
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Integer, List<Booking>> activeBookings = approved
+                ? findActiveBookingsByItem(bookings.values())
+                : Collections.emptyMap();
+
+        Map<Integer, List<Booking>> waitingBookings = bookings.values()
+                .stream()
+                .filter(booking -> booking.getStatus().equals(BookingState.WAITING))
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+
+        BookingState status = approved ? BookingState.APPROVED : BookingState.REJECTED;
+        List<BookingBatchResultDto> results = new ArrayList<>();
+        List<Booking> changedBookings = new ArrayList<>();
+
+        for (Integer bookingId : ids) {
+            Booking booking = bookings.get(bookingId);
+
+            if (booking == null) {
+                results.add(new BookingBatchResultDto(bookingId, null,
+                        "Бронирование с id " + bookingId + " не найдено."));
+                continue;
+            }
+
+            Integer itemId = booking.getItem().getId();
+
+            if (booking.getStatus().equals(BookingState.APPROVED)) {
+                results.add(new BookingBatchResultDto(bookingId, booking.getStatus(),
+                        "Бронирование с id = " + bookingId + " уже подтверждено пользователем с id = " + userId));
+            } else if (approved && (overlapsAny(booking, activeBookings.get(itemId))
+                    || !booking.getStatus().equals(BookingState.WAITING)
+                    && overlapsAny(booking, waitingBookings.get(itemId)))) {
+                results.add(new BookingBatchResultDto(bookingId, booking.getStatus(),
+                        "Предмет с id = " + itemId + " уже забронирован на период с " +
+                                booking.getStart() + " по " + booking.getEnd()));
+            } else {
+                if (approved) {
+                    activeBookings.computeIfAbsent(itemId, id -> new ArrayList<>()).add(booking);
+                }
+                if (!booking.getStatus().equals(status)) {
+                    changedBookings.add(booking);
+                }
+                results.add(new BookingBatchResultDto(bookingId, status, null));
+            }
+        }
+
+        if (!changedBookings.isEmpty()) {
+            bookingRepository.updateStatusByIdIn(changedBookings.stream()
+                    .map(Booking::getId)
+                    .collect(Collectors.toList()), status);
+
+            changedBookings.stream()
+                    .collect(Collectors.groupingBy(booking -> booking.getItem().getId(),
+                            Collectors.groupingBy(Booking::getStatus, Collectors.counting())))
+                    .forEach((itemId, counts) -> counts.forEach((previousStatus, count) ->
+                            moveCounter(itemId, previousStatus, status, count)));
+        }
+
+        return results;
 
     }
 
@@ -129,9 +278,10 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(() -> new EntityNotFoundException(Booking.class, String.valueOf(bookingId),
                         "Бронирование с id " + bookingId + " не найдено."));
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
 
         Integer bookerId = booking.getBooker().getId();
         Integer ownerId = booking.getItem().getOwner().getId();
@@ -150,13 +300,40 @@ public class BookingServiceImpl implements BookingService {
 
         paginationValidator.validateSearchParameters(from, size);
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        validateState(state);
+        String upperState = state.toUpperCase();
 
         Pageable pageable = PageRequest.of(from / size, size, Sort.by("start").descending());
-        Page<Booking> bookingPage = bookingRepository.findBookingsByBooker_Id(userId, pageable);
-        return filterBookingsByState(bookingPage.getContent(), state);
+        LocalDateTime now = LocalDateTime.now();
+        Slice<Booking> bookingSlice;
+
+        switch (upperState) {
+            case "CURRENT":
+                bookingSlice = bookingRepository.findBookingsByBooker_IdAndStartBeforeAndEndAfter(userId, now, now,
+                        pageable);
+                break;
+            case "PAST":
+                bookingSlice = bookingRepository.findBookingsByBooker_IdAndEndBefore(userId, now, pageable);
+                break;
+            case "FUTURE":
+                bookingSlice = bookingRepository.findBookingsByBooker_IdAndStartAfter(userId, now, pageable);
+                break;
+            case "":
+            case "ALL":
+                bookingSlice = bookingRepository.findBookingsByBooker_Id(userId, pageable);
+                break;
+            default:
+                bookingSlice = bookingRepository.findBookingsByBooker_IdAndStatus(userId,
+                        BookingState.valueOf(upperState), pageable);
+                break;
+        }
+
+        return markBookingTimeState(bookingSlice.getContent(), upperState);
 
     }
 
@@ -165,82 +342,309 @@ public class BookingServiceImpl implements BookingService {
 
         paginationValidator.validateSearchParameters(from, size);
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        validateState(state);
+        String upperState = state.toUpperCase();
 
         Pageable pageable = PageRequest.of(from / size, size, Sort.by("start").descending());
-        Page<Booking> bookingPage = bookingRepository.findBookingsByItem_Owner_Id(userId, pageable);
+        LocalDateTime now = LocalDateTime.now();
+        Slice<Booking> bookingSlice;
+
+        switch (upperState) {
+            case "CURRENT":
+                bookingSlice = bookingRepository.findBookingsByItem_Owner_IdAndStartBeforeAndEndAfter(userId, now, now,
+                        pageable);
+                break;
+            case "PAST":
+                bookingSlice = bookingRepository.findBookingsByItem_Owner_IdAndEndBefore(userId, now, pageable);
+                break;
+            case "FUTURE":
+                bookingSlice = bookingRepository.findBookingsByItem_Owner_IdAndStartAfter(userId, now, pageable);
+                break;
+            case "":
+            case "ALL":
+                bookingSlice = bookingRepository.findBookingsByItem_Owner_Id(userId, pageable);
+                break;
+            default:
+                bookingSlice = bookingRepository.findBookingsByItem_Owner_IdAndStatus(userId,
+                        BookingState.valueOf(upperState), pageable);
+                break;
+        }
 
-        return filterBookingsByState(bookingPage.getContent(), state);
+        return markBookingTimeState(bookingSlice.getContent(), upperState);
 
     }
 
 
-    private List<Booking> filterBookingsByState(List<Booking> bookings, String state) {
+    @Override
+    public List<Booking> getBookingsSentAfter(Integer userId, String state, PageCursor after, Integer size) {
+
+        paginationValidator.validateSearchParameters(0, size);
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
 
         validateState(state);
+        String upperState = state.toUpperCase();
 
-        List<Booking> filteredBookings = new ArrayList<>();
+        PageCursor cursor = after == null ? PageCursor.first() : after;
+        Pageable pageable = PageRequest.of(0, size);
         LocalDateTime now = LocalDateTime.now();
+        List<Booking> bookings;
 
-        for (Booking booking : bookings) {
-            switch (state) {
-                case "CURRENT":
-                    filterCurrentBookings(booking, now, filteredBookings);
-                    break;
-                case "PAST":
-                    filterPastBookings(booking, now, filteredBookings);
-                    break;
-                case "FUTURE":
-                    filterFutureBookings(booking, now, filteredBookings);
-                    break;
-                case "":
-                case "ALL":
-                    filteredBookings.add(booking);
-                    break;
-                default:
-                    if (booking.getStatus() != null) {
-                        switch (booking.getStatus()) {
-                            case WAITING:
-                            case APPROVED:
-                            case REJECTED:
-                            case CANCELED:
-                                if (booking.getStatus().name().equalsIgnoreCase(state)) {
-                                    filteredBookings.add(booking);
-                                }
-                                break;
-                        }
-                    }
-                    break;
+        switch (upperState) {
+            case "CURRENT":
+                bookings = bookingRepository.findCurrentBookingsByBookerAfter(userId, now, cursor.getTime(),
+                        cursor.getId(), pageable);
+                break;
+            case "PAST":
+                bookings = bookingRepository.findPastBookingsByBookerAfter(userId, now, cursor.getTime(),
+                        cursor.getId(), pageable);
+                break;
+            case "FUTURE":
+                bookings = bookingRepository.findFutureBookingsByBookerAfter(userId, now, cursor.getTime(),
+                        cursor.getId(), pageable);
+                break;
+            case "":
+            case "ALL":
+                bookings = bookingRepository.findBookingsByBookerAfter(userId, cursor.getTime(), cursor.getId(),
+                        pageable);
+                break;
+            default:
+                bookings = bookingRepository.findBookingsByBookerAndStatusAfter(userId,
+                        BookingState.valueOf(upperState), cursor.getTime(), cursor.getId(), pageable);
+                break;
+        }
+
+        return markBookingTimeState(bookings, upperState);
+
+    }
+
+    @Override
+    public List<Booking> getBookingsReceivedAfter(Integer userId, String state, PageCursor after, Integer size) {
+
+        paginationValidator.validateSearchParameters(0, size);
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        validateState(state);
+        String upperState = state.toUpperCase();
+
+        PageCursor cursor = after == null ? PageCursor.first() : after;
+        Pageable pageable = PageRequest.of(0, size);
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> bookings;
+
+        switch (upperState) {
+            case "CURRENT":
+                bookings = bookingRepository.findCurrentBookingsByOwnerAfter(userId, now, cursor.getTime(),
+                        cursor.getId(), pageable);
+                break;
+            case "PAST":
+                bookings = bookingRepository.findPastBookingsByOwnerAfter(userId, now, cursor.getTime(),
+                        cursor.getId(), pageable);
+                break;
+            case "FUTURE":
+                bookings = bookingRepository.findFutureBookingsByOwnerAfter(userId, now, cursor.getTime(),
+                        cursor.getId(), pageable);
+                break;
+            case "":
+            case "ALL":
+                bookings = bookingRepository.findBookingsByOwnerAfter(userId, cursor.getTime(), cursor.getId(),
+                        pageable);
+                break;
+            default:
+                bookings = bookingRepository.findBookingsByOwnerAndStatusAfter(userId,
+                        BookingState.valueOf(upperState), cursor.getTime(), cursor.getId(), pageable);
+                break;
+        }
+
+        return markBookingTimeState(bookings, upperState);
+
+    }
+
+
+    @Override
+    public BookingSummaryDto getBookingsSummary(Integer userId) {
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        Map<Integer, Map<String, Long>> itemCounts = new TreeMap<>();
+
+        for (BookingCounter counter : bookingCounterRepository.findAllByItemOwnerId(userId)) {
+            itemCounts.computeIfAbsent(counter.getItemId(), itemId -> emptySummaryCounts())
+                    .merge(counter.getStatus().name(), counter.getBookingsCount(), Long::sum);
+        }
+
+        for (BookingTimeCountDto timeCount : bookingRepository.countCurrentAndFutureByItemOwnerId(userId,
+                LocalDateTime.now())) {
+            Map<String, Long> counts = itemCounts.computeIfAbsent(timeCount.getItemId(),
+                    itemId -> emptySummaryCounts());
+            counts.put(BookingTimeState.CURRENT.name(), timeCount.getCurrent());
+            counts.put(BookingTimeState.FUTURE.name(), timeCount.getFuture());
+        }
+
+        Map<String, Long> total = emptySummaryCounts();
+        List<BookingSummaryDto.ItemSummary> items = new ArrayList<>();
+
+        itemCounts.forEach((itemId, counts) -> {
+            counts.forEach((state, count) -> total.merge(state, count, Long::sum));
+            items.add(new BookingSummaryDto.ItemSummary(itemId, counts));
+        });
+
+        return new BookingSummaryDto(total, items);
+
+    }
+
+    @Override
+    public void exportBookingsReceived(Integer userId, BookingExportFormat format, OutputStream out)
+            throws IOException {
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        OutputStream buffered = new BufferedOutputStream(out, EXPORT_BUFFER_SIZE);
+
+        if (format == BookingExportFormat.CSV) {
+            buffered.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (Stream<BookingExportDto> bookings = bookingRepository.streamAllByItemOwnerId(userId)) {
+            Iterator<BookingExportDto> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                BookingExportDto booking = iterator.next();
+                if (format == BookingExportFormat.CSV) {
+                    buffered.write(toCsvLine(booking).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    buffered.write(objectMapper.writeValueAsBytes(booking));
+                    buffered.write('\n');
+                }
             }
         }
 
-        filteredBookings.sort(Comparator.comparing(Booking::getStart).reversed());
+        buffered.flush();
+
+    }
+
+
+    private void moveCounter(Integer itemId, BookingState from, BookingState to, long count) {
 
-        return filteredBookings;
+        if (from == to) {
+            return;
+        }
+
+        if (from != null) {
+            bookingCounterRepository.addToCount(itemId, from, -count);
+        }
+
+        if (bookingCounterRepository.addToCount(itemId, to, count) == 0) {
+            bookingCounterRepository.save(new BookingCounter(itemId, to, count));
+        }
 
     }
 
-    void filterCurrentBookings(Booking booking, LocalDateTime now, List<Booking> filteredBookings) {
-        if (booking.getStart().isBefore(now) && booking.getEnd().isAfter(now)) {
-            booking.setBookingTimeState(BookingTimeState.CURRENT);
-            filteredBookings.add(booking);
+    private Map<Integer, List<Booking>> findActiveBookingsByItem(Collection<Booking> bookings) {
+
+        if (bookings.isEmpty()) {
+            return new HashMap<>();
         }
+
+        Set<Integer> itemIds = new HashSet<>();
+        Set<Integer> bookingIds = new HashSet<>();
+        LocalDateTime from = LocalDateTime.MAX;
+        LocalDateTime to = LocalDateTime.MIN;
+
+        for (Booking booking : bookings) {
+            itemIds.add(booking.getItem().getId());
+            bookingIds.add(booking.getId());
+            from = booking.getStart().isBefore(from) ? booking.getStart() : from;
+            to = booking.getEnd().isAfter(to) ? booking.getEnd() : to;
+        }
+
+        Map<Integer, List<Booking>> activeBookings = bookingRepository
+                .findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(itemIds, ACTIVE_STATES, to, from)
+                .stream()
+                .filter(booking -> !bookingIds.contains(booking.getId()))
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId(), HashMap::new,
+                        Collectors.toList()));
+
+        bookings.stream()
+                .filter(booking -> booking.getStatus().equals(BookingState.APPROVED))
+                .forEach(booking -> activeBookings.computeIfAbsent(booking.getItem().getId(),
+                        id -> new ArrayList<>()).add(booking));
+
+        return activeBookings;
+
+    }
+
+    private boolean overlapsAny(Booking booking, List<Booking> others) {
+
+        if (others == null) {
+            return false;
+        }
+
+        return others.stream()
+                .anyMatch(other -> !other.getId().equals(booking.getId())
+                        && other.getStart().isBefore(booking.getEnd())
+                        && other.getEnd().isAfter(booking.getStart()));
+
+    }
+
+    private Map<String, Long> emptySummaryCounts() {
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+
+        for (BookingState status : BookingState.values()) {
+            counts.put(status.name(), 0L);
+        }
+        counts.put(BookingTimeState.CURRENT.name(), 0L);
+        counts.put(BookingTimeState.FUTURE.name(), 0L);
+
+        return counts;
+
     }
 
-    void filterPastBookings(Booking booking, LocalDateTime now, List<Booking> filteredBookings) {
-        if (booking.getEnd().isBefore(now)) {
-            booking.setBookingTimeState(BookingTimeState.PAST);
-            filteredBookings.add(booking);
+    private List<Booking> markBookingTimeState(List<Booking> bookings, String state) {
+
+        for (BookingTimeState bookingTimeState : BookingTimeState.values()) {
+            if (bookingTimeState != BookingTimeState.ALL && bookingTimeState.name().equals(state)) {
+                bookings.forEach(booking -> booking.setBookingTimeState(bookingTimeState));
+                break;
+            }
         }
+
+        return bookings;
+
     }
 
-    void filterFutureBookings(Booking booking, LocalDateTime now, List<Booking> filteredBookings) {
-        if (booking.getStart().isAfter(now)) {
-            booking.setBookingTimeState(BookingTimeState.FUTURE);
-            filteredBookings.add(booking);
+    private String toCsvLine(BookingExportDto booking) {
+        return booking.getId() + "," + booking.getStart() + "," + booking.getEnd() + "," + booking.getStatus() + "," +
+                booking.getItemId() + "," + escapeCsv(booking.getItemName()) + "," +
+                booking.getBookerId() + "," + escapeCsv(booking.getBookerName()) + "\n";
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
         }
+        return value;
     }
 
     void validateState(String state) {
@@ -1,18 +1,39 @@
 package ru.practicum.shareit.exceptions;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
 
 import javax.validation.ConstraintViolationException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @RestControllerAdvice
 public class CustomExceptionHandler {
 
+    private static final String ITEM_NAME_DESCRIPTION_CONSTRAINT = "ux_items_name_description";
+
+    private static final String USER_EMAIL_CONSTRAINT = "uq_user_email";
+
+    private static final String BOOKING_PERIOD_CONSTRAINT = "excl_bookings_item_period";
+
+    private static final String FOREIGN_KEY_VIOLATION = "foreign key";
+
+    private static final String USERS_TABLE = "users";
+
+    private static final Pattern MISSING_KEY = Pattern.compile("(?:=|\\(id\\) )\\((\\d+)\\)");
+
+
     @ExceptionHandler({MethodArgumentNotValidException.class, ConstraintViolationException.class,
             IllegalArgumentException.class, BadRequestException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -42,6 +63,32 @@ public class CustomExceptionHandler {
         return new ErrorResponse(e.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+
+        if (cause.contains(ITEM_NAME_DESCRIPTION_CONSTRAINT)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(handleEntityAlreadyExistsException(
+                    new EntityAlreadyExistsException(Item.class, "Вещь с таким названием и описанием уже зарегистрирована.")));
+        }
+        if (cause.contains(USER_EMAIL_CONSTRAINT)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(handleEntityAlreadyExistsException(
+                    new EntityAlreadyExistsException(User.class, "Пользователь с таким email уже существует.")));
+        }
+        if (cause.contains(BOOKING_PERIOD_CONSTRAINT)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(handleEntityAlreadyExistsException(
+                    new EntityAlreadyExistsException(Booking.class, "Предмет уже забронирован на пересекающийся период.")));
+        }
+        if (cause.contains(FOREIGN_KEY_VIOLATION) && cause.contains(USERS_TABLE)) {
+            Matcher key = MISSING_KEY.matcher(cause);
+            String userId = key.find() ? key.group(1) : "";
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(handleEntityNotFoundException(
+                    new EntityNotFoundException(User.class, userId, "Пользователь с id " + userId + " не найден.")));
+        }
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(handleThrowable(e));
+    }
+
     @ExceptionHandler(Throwable.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleThrowable(Throwable e) {
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.item.controller;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,14 +11,19 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemBatchDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.model.Item;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -40,6 +47,15 @@ public class ItemController {
         return addedItem;
     }
 
+    @PostMapping("/batch")
+    public List<Item> addAll(@RequestHeader(REQUEST_HEADER) Integer userId,
+                             @Valid @RequestBody ItemBatchDto batch) {
+        log.info("Start saving {} items", batch.getItems().size());
+        List<Item> addedItems = itemService.addAll(userId, batch.getItems());
+        log.info("Finish saving {} items", addedItems.size());
+        return addedItems;
+    }
+
     @PatchMapping("/{itemId}")
     public Item update(@RequestHeader(REQUEST_HEADER) Integer userId,
                        @PathVariable("itemId") Integer itemId,
@@ -69,14 +85,67 @@ public class ItemController {
         return fetchedItems;
     }
 
+    @GetMapping(params = "after")
+    public ResponseEntity<List<ItemDtoOut>> getItemsByUserIdAfter(@RequestHeader(REQUEST_HEADER) Integer userId,
+                                                                  @RequestParam("after") String after,
+                                                                  @RequestParam(required = false,
+                                                                          defaultValue = "100") Integer size) {
+        log.info("Start fetching items for user with id = {} after cursor '{}'", userId, after);
+        List<ItemDtoOut> fetchedItems = itemService.getItemsAfter(userId, PageCursor.decodeId(after), size);
+        log.info("Finish fetching items for user with id = {} after cursor '{}'", userId, after);
+        return ResponseEntity.ok()
+                .headers(PageCursor.nextPageHeaders(fetchedItems, size, item -> PageCursor.of(item.getId())))
+                .body(fetchedItems);
+    }
+
     @GetMapping("/search")
-    public List<Item> search(@RequestParam(required = false) String text) {
+    public List<Item> search(@RequestParam(required = false) String text,
+                             @RequestParam(required = false, defaultValue = "0") Integer from,
+                             @RequestParam(required = false, defaultValue = "100") Integer size) {
         log.info("Start fetching items by name/description using 'text' parameter = {}", text);
-        List<Item> fetchedItems = itemService.search(text);
+        List<Item> fetchedItems = itemService.search(text, from, size);
         log.info("Finish fetching items by name/description using 'text' parameter = {}", text);
         return fetchedItems;
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getAvailability(@PathVariable("itemId") Integer itemId,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                               LocalDateTime from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                               LocalDateTime to) {
+        log.info("Start fetching availability of item with id = {} from {} to {}", itemId, from, to);
+        ItemAvailabilityDto availability = itemService.getAvailability(itemId, from, to);
+        log.info("Finish fetching availability of item with id = {} from {} to {}", itemId, from, to);
+        return availability;
+    }
+
+    @GetMapping("/availability")
+    public List<ItemAvailabilityDto> getAvailability(@RequestParam("itemIds") List<Integer> itemIds,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                     LocalDateTime from,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                     LocalDateTime to) {
+        log.info("Start fetching availability of items with ids = {} from {} to {}", itemIds, from, to);
+        List<ItemAvailabilityDto> availability = itemService.getAvailability(itemIds, from, to);
+        log.info("Finish fetching availability of items with ids = {} from {} to {}", itemIds, from, to);
+        return availability;
+    }
+
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<List<CommentDtoOut>> getComments(@PathVariable("itemId") Integer itemId,
+                                                           @RequestParam(required = false) String after,
+                                                           @RequestParam(required = false,
+                                                                   defaultValue = "100") Integer size) {
+        log.info("Start fetching comments of item with id = {} after cursor '{}'", itemId, after);
+        List<CommentDtoOut> fetchedComments = itemService.getComments(itemId, PageCursor.decodeTimeAndId(after), size);
+        log.info("Finish fetching comments of item with id = {} after cursor '{}'", itemId, after);
+        return ResponseEntity.ok()
+                .headers(PageCursor.nextPageHeaders(fetchedComments, size,
+                        comment -> PageCursor.of(comment.getCreated(), comment.getId())))
+                .body(fetchedComments);
+    }
+
     @PostMapping("/{itemId}/comment")
     public ItemDto.ItemCommentDto  addComment(@RequestHeader(REQUEST_HEADER) Integer userId,
                               @PathVariable("itemId") Integer itemId,
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ItemAvailabilityDto {
+
+    private Integer itemId;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private List<FreeSlot> freeSlots;
+
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class FreeSlot {
+
+        private LocalDateTime start;
+
+        private LocalDateTime end;
+
+    }
+
+}
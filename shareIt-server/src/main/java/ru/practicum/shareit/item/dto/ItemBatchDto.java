@@ -0,0 +1,27 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemBatchDto {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    private List<ItemDto> items;
+
+}
@@ -29,6 +29,8 @@ public class ItemDtoOut {
 
     private List<CommentDtoOut> comments;
 
+    private Long commentsCount;
+
     private BookingDtoOut nextBooking;
 
     private Integer requestId;
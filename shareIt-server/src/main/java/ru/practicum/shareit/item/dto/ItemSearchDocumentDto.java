@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@Getter
+@AllArgsConstructor
+public class ItemSearchDocumentDto {
+
+    private Integer id;
+
+    private String name;
+
+    private String description;
+
+    private Boolean available;
+
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.mapper;
 import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.booking.dto.BookingDtoOut;
 import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.RequestDto;
@@ -12,6 +13,15 @@ import java.util.List;
 @UtilityClass
 public class ItemMapper {
 
+    public Item toItem(ItemDto itemDto) {
+        Item item = new Item();
+        item.setName(itemDto.getName());
+        item.setDescription(itemDto.getDescription());
+        item.setAvailable(itemDto.getAvailable());
+        item.setRequestId(itemDto.getRequestId());
+        return item;
+    }
+
     public ItemDtoOut toItemDtoOut(Item item) {
 
         return new ItemDtoOut(
@@ -21,8 +31,8 @@ public class ItemMapper {
                 item.getAvailable());
     }
 
-    public ItemDtoOut toItemDtoOut(Item item, BookingDtoOut lastBooking,
-                                   List<CommentDtoOut> comments, BookingDtoOut nextBooking) {
+    public ItemDtoOut toItemDtoOut(Item item, BookingDtoOut lastBooking, List<CommentDtoOut> comments,
+                                   Long commentsCount, BookingDtoOut nextBooking) {
         return new ItemDtoOut(
                 item.getId(),
                 item.getName(),
@@ -30,6 +40,7 @@ public class ItemMapper {
                 item.getAvailable(),
                 lastBooking,
                 comments,
+                commentsCount,
                 nextBooking,
                 item.getRequestId());
     }
@@ -1,14 +1,42 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.CommentCountDto;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface JpaCommentRepository extends JpaRepository<Comment, Integer> {
 
-    List<Comment> findAllByItemId(Integer itemId);
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findAllByItemIdOrderByCreatedDescIdDesc(Integer itemId, Pageable pageable);
 
-    List<Comment> findAllByItemIdIn(List<Integer> itemIds);
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM comments c WHERE c.item.id = :itemId" +
+            " AND c.created <= :created AND (c.created < :created OR c.id < :id)" +
+            " ORDER BY c.created DESC, c.id DESC")
+    List<Comment> findAllByItemIdAfter(@Param("itemId") Integer itemId, @Param("created") LocalDateTime created,
+                                       @Param("id") Integer id, Pageable pageable);
 
-}
\ No newline at end of file
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findAllByIdIn(Collection<Integer> ids);
+
+    @Query(value = "SELECT CAST(r.id AS INTEGER) FROM (SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.item_id" +
+            " ORDER BY c.created DESC, c.id DESC) AS rn FROM comments c WHERE c.item_id IN (:itemIds)) r" +
+            " WHERE r.rn <= :limit",
+            nativeQuery = true)
+    List<Integer> findLatestIdsByItemIdIn(@Param("itemIds") Collection<Integer> itemIds, @Param("limit") int limit);
+
+    long countByItemId(Integer itemId);
+
+    @Query("SELECT new ru.practicum.shareit.item.dto.CommentCountDto(c.item.id, COUNT(c)) FROM comments c" +
+            " WHERE c.item.id IN :itemIds GROUP BY c.item.id")
+    List<CommentCountDto> countByItemIdIn(@Param("itemIds") Collection<Integer> itemIds);
+
+}
@@ -1,24 +1,63 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.config.CacheConfig;
+import ru.practicum.shareit.item.dto.ItemSearchDocumentDto;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface JpaItemRepository extends JpaRepository<Item, Integer> {
 
-    Optional<Item> findByNameAndDescription(String name, String description);
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    @Cacheable(cacheNames = CacheConfig.ITEMS, unless = "#result == null")
+    Optional<Item> findById(Integer id);
 
+    @EntityGraph(attributePaths = "owner")
+    List<Item> findAllByIdIn(Collection<Integer> ids);
+
+    @Query("SELECT new ru.practicum.shareit.item.dto.ItemSearchDocumentDto(i.id, i.name, i.description, i.available)" +
+            " FROM Item i WHERE i.id IN (:ids)")
+    List<ItemSearchDocumentDto> findSearchDocumentsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @EntityGraph(attributePaths = "owner")
     @Query("SELECT i FROM Item i WHERE i.available = true" +
-            " AND (LOWER(i.name) LIKE %:text% OR LOWER(i.description) LIKE %:text%) ORDER BY i.id ASC")
-    List<Item> searchByNameAndDescription(@Param("text") String text);
+            " AND (LOWER(i.name) LIKE %:text% OR LOWER(i.description) LIKE %:text%)" +
+            " ORDER BY CASE WHEN LOWER(i.name) LIKE %:text% THEN 0 ELSE 1 END, i.id ASC")
+    List<Item> searchByNameAndDescription(@Param("text") String text, Pageable pageable);
+
+    @Query(value = "SELECT CAST(i.id AS INTEGER) FROM items i WHERE i.available = true" +
+            " AND (LOWER(i.name) LIKE CONCAT('%', :text, '%') OR LOWER(i.description) LIKE CONCAT('%', :text, '%'))" +
+            " ORDER BY GREATEST(word_similarity(:text, LOWER(i.name)), word_similarity(:text, LOWER(i.description)))" +
+            " DESC, i.id ASC", nativeQuery = true)
+    List<Integer> searchIdsByTrigramSimilarity(@Param("text") String text, Pageable pageable);
 
     List<Item> findAllByRequestIdIn(List<Integer> requestIds);
 
     List<Item> findByOwnerId(Integer userId, Pageable page);
 
-}
\ No newline at end of file
+    @Query("SELECT i.id FROM Item i WHERE i.owner.id = :userId")
+    List<Integer> findIdsByOwnerId(@Param("userId") Integer userId);
+
+    List<Item> findByOwnerIdAndIdGreaterThanOrderByIdAsc(Integer userId, Integer id, Pageable page);
+
+    List<Item> findTop1000ByIdGreaterThanOrderByIdAsc(Integer id);
+
+    @Query(value = "SELECT id FROM items WHERE id = :itemId FOR UPDATE", nativeQuery = true)
+    Long lockById(@Param("itemId") Integer itemId);
+
+    @Query(value = "SELECT id FROM items WHERE owner_id = :userId" +
+            " AND id IN (SELECT b.item_id FROM bookings b WHERE b.id IN (:bookingIds)) ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockAllByOwnerIdAndBookingIdIn(@Param("userId") Integer userId,
+                                              @Param("bookingIds") Collection<Integer> bookingIds);
+
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+
+import java.util.List;
+
+
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseItemSearchEngine implements ItemSearchEngine {
+
+    private final JpaItemRepository itemRepository;
+
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        return itemRepository.searchByNameAndDescription(text, pageable);
+    }
+
+}
@@ -0,0 +1,230 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemSearchDocumentDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "memory")
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+
+    private final JpaItemRepository itemRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final long maxBytes;
+
+    private final ItemSearchIndex index;
+
+    private volatile State state = State.FALLBACK;
+
+
+    public InMemoryItemSearchEngine(JpaItemRepository itemRepository, MeterRegistry meterRegistry,
+                                    @Value("${shareit.search.memory.max-bytes}") long maxBytes) {
+        this.itemRepository = itemRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxBytes = maxBytes;
+        this.index = new ItemSearchIndex(maxBytes);
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("shareit.search.index.items", index, ItemSearchIndex::size)
+                .description("Items held by the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("shareit.search.index.grams", index, ItemSearchIndex::gramCount)
+                .description("Distinct trigrams with a posting list")
+                .register(meterRegistry);
+        Gauge.builder("shareit.search.index.memory", index, ItemSearchIndex::estimatedBytes)
+                .description("Estimated size of postings and indexed text")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            if (state == State.LOADING) {
+                return;
+            }
+            state = State.LOADING;
+            index.clear();
+        }
+
+        boolean loaded = false;
+        try {
+            loaded = load();
+        } finally {
+            synchronized (this) {
+                if (loaded) {
+                    state = State.READY;
+                } else {
+                    state = State.FALLBACK;
+                    index.clear();
+                }
+            }
+        }
+
+        if (loaded) {
+            log.info("Built in-memory item search index with {} items", index.size());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${shareit.search.memory.rebuild-delay}",
+            fixedDelayString = "${shareit.search.memory.rebuild-delay}")
+    public void rebuildAfterOverflow() {
+        if (state == State.FALLBACK) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        if (state != State.READY) {
+            return itemRepository.searchByNameAndDescription(text, pageable);
+        }
+
+        int[] ids = index.search(text);
+
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+
+        if (from == to) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(ids[i]);
+        }
+
+        Map<Integer, Item> items = itemRepository.findAllByIdIn(pageIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        if (items.size() < pageIds.size()) {
+            pageIds.stream()
+                    .filter(id -> !items.containsKey(id))
+                    .forEach(index::remove);
+        }
+
+        return pageIds.stream()
+                .map(items::get)
+                .filter(item -> item != null && Boolean.TRUE.equals(item.getAvailable()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void index(Item item) {
+        Integer itemId = item.getId();
+        afterCommit(() -> refresh(List.of(itemId)));
+    }
+
+    @Override
+    public void removeAll(Collection<Integer> itemIds) {
+        afterCommit(() -> remove(itemIds));
+    }
+
+
+    private boolean load() {
+        int lastId = 0;
+        while (true) {
+            synchronized (this) {
+                if (state != State.LOADING) {
+                    return false;
+                }
+
+                List<Item> batch = itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+                if (batch.isEmpty()) {
+                    return true;
+                }
+
+                for (Item item : batch) {
+                    put(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        }
+    }
+
+    private synchronized void refresh(Collection<Integer> itemIds) {
+        if (state == State.FALLBACK) {
+            return;
+        }
+
+        Map<Integer, ItemSearchDocumentDto> documents = itemRepository.findSearchDocumentsByIdIn(itemIds)
+                .stream()
+                .collect(Collectors.toMap(ItemSearchDocumentDto::getId, Function.identity()));
+
+        for (Integer itemId : itemIds) {
+            ItemSearchDocumentDto document = documents.get(itemId);
+            if (document == null) {
+                index.remove(itemId);
+            } else {
+                put(document.getId(), document.getName(), document.getDescription(), document.getAvailable());
+            }
+        }
+    }
+
+    private synchronized void put(int id, String name, String description, Boolean available) {
+        if (state == State.FALLBACK) {
+            return;
+        }
+
+        if (!index.put(id, name, description, Boolean.TRUE.equals(available))) {
+            state = State.FALLBACK;
+            index.clear();
+            log.warn("In-memory item search index exceeded {} bytes, falling back to database search" +
+                    " until the next rebuild", maxBytes);
+        }
+    }
+
+    private synchronized void remove(Collection<Integer> itemIds) {
+        itemIds.forEach(index::remove);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+
+    private enum State {
+        LOADING,
+        READY,
+        FALLBACK
+    }
+
+}
@@ -0,0 +1,351 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+public class ItemSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Integer, Document> documents = new HashMap<>();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final long maxBytes;
+
+    private long bytes;
+
+
+    public ItemSearchIndex() {
+        this(Long.MAX_VALUE);
+    }
+
+    public ItemSearchIndex(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public boolean put(int id, String name, String description, boolean available) {
+        Document document = new Document(lowerCase(name), lowerCase(description), available);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(id);
+            Set<String> previousGrams = previous == null ? Set.of() : previous.grams();
+            Set<String> grams = document.grams();
+
+            if (bytes + growth(document, previous, grams, previousGrams) > maxBytes) {
+                return false;
+            }
+
+            documents.put(id, document);
+            bytes += document.bytes() - (previous == null ? 0 : previous.bytes());
+
+            for (String gram : previousGrams) {
+                if (!grams.contains(gram)) {
+                    removePosting(gram, id);
+                }
+            }
+            for (String gram : grams) {
+                if (!previousGrams.contains(gram)) {
+                    addPosting(gram, id);
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                bytes -= previous.bytes();
+                for (String gram : previous.grams()) {
+                    removePosting(gram, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            bytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int[] search(String text) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+
+        String query = text.toLowerCase();
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = findCandidates(query);
+
+            int[] nameMatches = new int[candidates.length];
+            int[] descriptionMatches = new int[candidates.length];
+            int nameCount = 0;
+            int descriptionCount = 0;
+
+            for (int id : candidates) {
+                Document document = documents.get(id);
+                if (document == null || !document.available) {
+                    continue;
+                }
+                if (document.name.contains(query)) {
+                    nameMatches[nameCount++] = id;
+                } else if (document.description.contains(query)) {
+                    descriptionMatches[descriptionCount++] = id;
+                }
+            }
+
+            int[] result = Arrays.copyOf(nameMatches, nameCount + descriptionCount);
+            System.arraycopy(descriptionMatches, 0, result, nameCount, descriptionCount);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private int[] findCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return scan(query);
+        }
+
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            PostingList posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        lists.sort((list1, list2) -> Integer.compare(list1.size, list2.size));
+
+        int[] result = lists.get(0).toArray();
+        int resultSize = result.length;
+
+        for (int i = 1; i < lists.size() && resultSize > 0; i++) {
+            PostingList other = lists.get(i);
+            int retained = 0;
+            for (int j = 0; j < resultSize; j++) {
+                if (other.contains(result[j])) {
+                    result[retained++] = result[j];
+                }
+            }
+            resultSize = retained;
+        }
+
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    private int[] scan(String query) {
+        int[] result = new int[16];
+        int size = 0;
+
+        for (Map.Entry<Integer, Document> entry : documents.entrySet()) {
+            Document document = entry.getValue();
+            if (document.available && document.contains(query)) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, size * 2);
+                }
+                result[size++] = entry.getKey();
+            }
+        }
+
+        result = Arrays.copyOf(result, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private long growth(Document document, Document previous, Set<String> grams, Set<String> previousGrams) {
+        long growth = document.bytes() - (previous == null ? 0 : previous.bytes());
+
+        for (String gram : previousGrams) {
+            if (!grams.contains(gram)) {
+                growth -= postingBytes(gram, postings.get(gram).size == 1);
+            }
+        }
+        for (String gram : grams) {
+            if (!previousGrams.contains(gram)) {
+                growth += postingBytes(gram, !postings.containsKey(gram));
+            }
+        }
+
+        return growth;
+    }
+
+    private void addPosting(String gram, int id) {
+        PostingList posting = postings.get(gram);
+        if (posting == null) {
+            posting = new PostingList();
+            postings.put(gram, posting);
+            bytes += postingBytes(gram, true);
+        } else {
+            bytes += postingBytes(gram, false);
+        }
+        posting.add(id);
+    }
+
+    private void removePosting(String gram, int id) {
+        PostingList posting = postings.get(gram);
+        if (posting != null && posting.remove(id)) {
+            bytes -= postingBytes(gram, posting.size == 0);
+            if (posting.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static long postingBytes(String gram, boolean withKey) {
+        return 4L + (withKey ? 2L * gram.length() : 0);
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? "" : value.toLowerCase();
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+
+    private static class Document {
+
+        private final String name;
+
+        private final String description;
+
+        private final boolean available;
+
+        Document(String name, String description, boolean available) {
+            this.name = name;
+            this.description = description;
+            this.available = available;
+        }
+
+        long bytes() {
+            return 2L * (name.length() + description.length());
+        }
+
+        boolean contains(String query) {
+            return name.contains(query) || description.contains(query);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = ItemSearchIndex.grams(name);
+            grams.addAll(ItemSearchIndex.grams(description));
+            return grams;
+        }
+
+    }
+
+    private static class PostingList {
+
+        private int[] ids = new int[2];
+
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            if (size > 0 && size * 4 < ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            return true;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "postgres")
+public class PostgresItemSearchEngine implements ItemSearchEngine {
+
+    private final JpaItemRepository itemRepository;
+
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        List<Integer> ids = itemRepository.searchIdsByTrigramSimilarity(text, pageable);
+
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Item> items = itemRepository.findAllByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -1,22 +1,36 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
 
     Item add(Integer userId, ItemDto item);
 
+    List<Item> addAll(Integer userId, List<ItemDto> items);
+
     Item update(Integer userId, Integer itemId, ItemDto item);
 
     ItemDtoOut getItem(Integer userId, Integer itemId);
 
     List<ItemDtoOut> getItems(Integer userId, Integer from, Integer size);
 
-    List<Item> search(String text);
+    List<ItemDtoOut> getItemsAfter(Integer userId, PageCursor after, Integer size);
+
+    List<Item> search(String text, Integer from, Integer size);
+
+    ItemAvailabilityDto getAvailability(Integer itemId, LocalDateTime from, LocalDateTime to);
+
+    List<ItemAvailabilityDto> getAvailability(List<Integer> itemIds, LocalDateTime from, LocalDateTime to);
+
+    List<CommentDtoOut> getComments(Integer itemId, PageCursor after, Integer size);
 
     ItemDto.ItemCommentDto addComment(Integer userId, Integer itemId, ItemDto.ItemCommentDto comment);
 
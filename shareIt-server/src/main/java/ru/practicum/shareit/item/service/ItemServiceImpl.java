@@ -1,7 +1,7 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -11,11 +11,13 @@ import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.repository.JpaBookingRepository;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exceptions.AccessDeniedException;
 import ru.practicum.shareit.exceptions.BadRequestException;
-import ru.practicum.shareit.exceptions.EntityAlreadyExistsException;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
+import ru.practicum.shareit.item.dto.CommentCountDto;
 import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.mapper.CommentMapper;
@@ -24,16 +26,22 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.JpaCommentRepository;
 import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.paginationvalidation.PaginationValidator;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.JpaUserRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.groupingBy;
@@ -45,6 +53,21 @@ import static java.util.stream.Collectors.toList;
 @Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
 
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private static final int MAX_AVAILABILITY_ITEMS = 100;
+
+    private static final Duration MAX_AVAILABILITY_PERIOD = Duration.ofDays(366);
+
+    private static final List<BookingState> ACTIVE_STATES = List.of(BookingState.WAITING, BookingState.APPROVED);
+
+    private static final int MAX_ITEM_COMMENTS = 20;
+
+    private static final Comparator<CommentDtoOut> LATEST_COMMENTS_FIRST = Comparator
+            .comparing(CommentDtoOut::getCreated)
+            .thenComparing(CommentDtoOut::getId)
+            .reversed();
+
     private final JpaItemRepository itemRepository;
 
     private final JpaUserRepository userRepository;
@@ -53,10 +76,10 @@ public class ItemServiceImpl implements ItemService {
 
     private final JpaCommentRepository commentRepository;
 
-    private final ModelMapper modelMapper;
-
     private final PaginationValidator paginationValidator;
 
+    private final ItemSearchEngine itemSearchEngine;
+
 
     @Override
     @Transactional
@@ -66,27 +89,46 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
                         "Пользователь с id " + userId + " не найден."));
 
-        Item newItem = modelMapper.map(itemDto, Item.class);
+        Item newItem = ItemMapper.toItem(itemDto);
+        newItem.setOwner(user);
+
+        Item savedItem = itemRepository.saveAndFlush(newItem);
+        itemSearchEngine.index(savedItem);
+
+        return savedItem;
+    }
+
+    @Override
+    @Transactional
+    public List<Item> addAll(Integer userId, List<ItemDto> itemDtos) {
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
+                        "Пользователь с id " + userId + " не найден."));
 
-        if (itemRepository.findByNameAndDescription(newItem.getName(), newItem.getDescription()).isPresent()) {
-            throw new EntityAlreadyExistsException(Item.class,
-                    "Item с названием '" + newItem.getName() +
-                            "' и описанием '" + newItem.getDescription() +
-                            "' уже зарегистрирован.");
+        List<Item> newItems = new ArrayList<>(itemDtos.size());
+        for (ItemDto itemDto : itemDtos) {
+            Item newItem = ItemMapper.toItem(itemDto);
+            newItem.setOwner(user);
+            newItems.add(newItem);
         }
 
-        newItem.setOwner(user);
+        List<Item> savedItems = itemRepository.saveAll(newItems);
+        itemRepository.flush();
+        savedItems.forEach(itemSearchEngine::index);
 
-        return itemRepository.save(newItem);
+        return savedItems;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#itemId")
     public Item update(Integer userId, Integer itemId, ItemDto itemDto) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
 
         Item existingItem = itemRepository.findById(itemId)
                 .orElseThrow(() -> new EntityNotFoundException(Item.class, String.valueOf(itemId),
@@ -97,17 +139,24 @@ public class ItemServiceImpl implements ItemService {
                     "Пользователь с id = " + userId + " не имеет права обновлять эту вещь.");
         }
 
+        Item item = new Item(existingItem.getId(), existingItem.getName(), existingItem.getDescription(),
+                existingItem.getAvailable(), existingItem.getOwner(), existingItem.getRequestId());
+
         if (itemDto.getName() != null) {
-            existingItem.setName(itemDto.getName());
+            item.setName(itemDto.getName());
         }
         if (itemDto.getDescription() != null) {
-            existingItem.setDescription(itemDto.getDescription());
+            item.setDescription(itemDto.getDescription());
         }
-        if (itemDto.getAvailable() != null && !itemDto.getAvailable().equals(existingItem.getAvailable())) {
-            existingItem.setAvailable(itemDto.getAvailable());
+        if (itemDto.getAvailable() != null && !itemDto.getAvailable().equals(item.getAvailable())) {
+            item.setAvailable(itemDto.getAvailable());
         }
 
-        return itemRepository.save(existingItem);
+        Item savedItem = itemRepository.save(item);
+        itemRepository.flush();
+        itemSearchEngine.index(savedItem);
+
+        return savedItem;
 
     }
 
@@ -122,7 +171,8 @@ public class ItemServiceImpl implements ItemService {
 
         Item item = itemGet.get();
         ItemDtoOut itemDtoOut = ItemMapper.toItemDtoOut(item);
-        itemDtoOut.setComments(getAllItemComments(itemId));
+        itemDtoOut.setComments(getLatestItemComments(itemId));
+        itemDtoOut.setCommentsCount(commentRepository.countByItemId(itemId));
 
         Integer ownerId = item.getOwner().getId();
 
@@ -130,14 +180,15 @@ public class ItemServiceImpl implements ItemService {
             return itemDtoOut;
         }
 
-        List<Booking> bookings = bookingRepository.findAllByItemAndStatusOrderByStartAsc(item, BookingState.APPROVED);
-        List<BookingDtoOut> bookingDTOList = bookings
-                .stream()
+        LocalDateTime now = LocalDateTime.now();
+        itemDtoOut.setLastBooking(bookingRepository
+                .findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDescIdDesc(itemId, BookingState.APPROVED, now)
                 .map(BookingMapper::toBookingOut)
-                .collect(toList());
-
-        itemDtoOut.setLastBooking(getLastBooking(bookingDTOList, LocalDateTime.now()));
-        itemDtoOut.setNextBooking(getNextBooking(bookingDTOList, LocalDateTime.now()));
+                .orElse(null));
+        itemDtoOut.setNextBooking(bookingRepository
+                .findFirstByItemIdAndStatusAndStartAfterOrderByStartAscIdAsc(itemId, BookingState.APPROVED, now)
+                .map(BookingMapper::toBookingOut)
+                .orElse(null));
         return itemDtoOut;
 
     }
@@ -145,49 +196,125 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public List<ItemDtoOut> getItems(Integer userId, Integer from, Integer size) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
 
         paginationValidator.validateSearchParameters(from, size);
 
         Pageable page = PageRequest.of(from / size, size);
 
-        List<Item> itemList = itemRepository.findByOwnerId(userId, page);
-        List<Integer> idList = itemList.stream()
-                .map(Item::getId)
-                .collect(Collectors.toList());
-        Map<Integer, List<CommentDtoOut>> comments = commentRepository.findAllByItemIdIn(idList)
-                .stream()
-                .map(CommentMapper::toCommentDtoOut)
-                .collect(groupingBy(CommentDtoOut::getItemId, toList()));
+        return toItemDtoOuts(itemRepository.findByOwnerId(userId, page));
 
-        Map<Integer, List<BookingDtoOut>> bookings = bookingRepository.findAllByItemInAndStatusOrderByStartAsc(itemList,
-                        BookingState.APPROVED)
-                .stream()
-                .map(BookingMapper::toBookingOut)
-                .collect(groupingBy(BookingDtoOut::getItemId, toList()));
+    }
 
-        return itemList.stream()
-                .sorted(Comparator.comparingInt(Item::getId))
-                .map(item -> ItemMapper.toItemDtoOut(
-                        item,
-                        getLastBooking(bookings.get(item.getId()), LocalDateTime.now()),
-                        comments.get(item.getId()),
-                        getNextBooking(bookings.get(item.getId()), LocalDateTime.now())
-                ))
-                .collect(Collectors.toList());
+    @Override
+    public List<ItemDtoOut> getItemsAfter(Integer userId, PageCursor after, Integer size) {
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        paginationValidator.validateSearchParameters(0, size);
+
+        Integer afterId = after == null ? 0 : after.getId();
+
+        return toItemDtoOuts(itemRepository.findByOwnerIdAndIdGreaterThanOrderByIdAsc(userId, afterId,
+                PageRequest.of(0, size)));
 
     }
 
     @Override
-    public List<Item> search(String text) {
+    public List<Item> search(String text, Integer from, Integer size) {
 
         if (text == null || text.isBlank() || text.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return itemRepository.searchByNameAndDescription(text.toLowerCase());
+        paginationValidator.validateSearchParameters(from, size);
+
+        int pageSize = Math.min(size, MAX_SEARCH_RESULTS);
+        Pageable page = PageRequest.of(from / pageSize, pageSize);
+
+        return itemSearchEngine.search(text.toLowerCase(), page);
+
+    }
+
+    @Override
+    public ItemAvailabilityDto getAvailability(Integer itemId, LocalDateTime from, LocalDateTime to) {
+        return getAvailability(List.of(itemId), from, to).get(0);
+    }
+
+    @Override
+    public List<ItemAvailabilityDto> getAvailability(List<Integer> itemIds, LocalDateTime from, LocalDateTime to) {
+
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new BadRequestException(LocalDateTime.class, from + " & " + to,
+                    "Дата окончания периода должна быть позже даты начала");
+        }
+
+        if (Duration.between(from, to).compareTo(MAX_AVAILABILITY_PERIOD) > 0) {
+            throw new BadRequestException(LocalDateTime.class, from + " & " + to,
+                    "Период не может быть длиннее " + MAX_AVAILABILITY_PERIOD.toDays() + " дней");
+        }
+
+        List<Integer> distinctIds = itemIds.stream()
+                .distinct()
+                .collect(toList());
+
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_AVAILABILITY_ITEMS) {
+            throw new BadRequestException(Item.class, distinctIds.toString(),
+                    "Количество вещей в запросе должно быть от 1 до " + MAX_AVAILABILITY_ITEMS);
+        }
+
+        Map<Integer, Item> foundItems = itemRepository.findAllById(distinctIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        for (Integer itemId : distinctIds) {
+            if (!foundItems.containsKey(itemId)) {
+                throw new EntityNotFoundException(Item.class, String.valueOf(itemId),
+                        "Вещь с id " + itemId + " не найдена.");
+            }
+        }
+
+        List<Integer> availableIds = distinctIds.stream()
+                .filter(itemId -> Boolean.TRUE.equals(foundItems.get(itemId).getAvailable()))
+                .collect(toList());
+
+        Map<Integer, List<Booking>> bookings = availableIds.isEmpty()
+                ? Collections.emptyMap()
+                : bookingRepository.findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(availableIds,
+                        ACTIVE_STATES, to, from)
+                .stream()
+                .collect(groupingBy(booking -> booking.getItem().getId(), toList()));
+
+        return distinctIds.stream()
+                .map(itemId -> new ItemAvailabilityDto(itemId, from, to, availableIds.contains(itemId)
+                        ? getFreeSlots(bookings.getOrDefault(itemId, Collections.emptyList()), from, to)
+                        : Collections.emptyList()))
+                .collect(toList());
+
+    }
+
+    @Override
+    public List<CommentDtoOut> getComments(Integer itemId, PageCursor after, Integer size) {
+
+        if (!itemRepository.existsById(itemId)) {
+            throw new EntityNotFoundException(Item.class, String.valueOf(itemId),
+                    "Вещь с id " + itemId + " не найдена.");
+        }
+
+        paginationValidator.validateSearchParameters(0, size);
+
+        PageCursor cursor = after == null ? PageCursor.first() : after;
+
+        return commentRepository.findAllByItemIdAfter(itemId, cursor.getTime(), cursor.getId(), PageRequest.of(0, size))
+                .stream()
+                .map(CommentMapper::toCommentDtoOut)
+                .collect(toList());
 
     }
 
@@ -236,8 +363,54 @@ public class ItemServiceImpl implements ItemService {
     }
 
 
-    private List<CommentDtoOut> getAllItemComments(Integer itemId) {
-        List<Comment> comments = commentRepository.findAllByItemId(itemId);
+    private List<ItemDtoOut> toItemDtoOuts(List<Item> itemList) {
+
+        if (itemList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> idList = itemList.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        List<Integer> commentIds = commentRepository.findLatestIdsByItemIdIn(idList, MAX_ITEM_COMMENTS);
+        Map<Integer, List<CommentDtoOut>> comments = commentIds.isEmpty() ? Collections.emptyMap()
+                : commentRepository.findAllByIdIn(commentIds)
+                .stream()
+                .map(CommentMapper::toCommentDtoOut)
+                .sorted(LATEST_COMMENTS_FIRST)
+                .collect(groupingBy(CommentDtoOut::getItemId, toList()));
+        Map<Integer, Long> commentCounts = commentRepository.countByItemIdIn(idList)
+                .stream()
+                .collect(Collectors.toMap(CommentCountDto::getItemId, CommentCountDto::getCount));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> bookingIds = bookingRepository.findLastAndNextBookingIds(idList,
+                        BookingState.APPROVED.name(), now)
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(toList());
+        Map<Integer, List<BookingDtoOut>> bookings = bookingIds.isEmpty() ? Collections.emptyMap()
+                : bookingRepository.findAllByIdIn(bookingIds)
+                .stream()
+                .map(BookingMapper::toBookingOut)
+                .collect(groupingBy(BookingDtoOut::getItemId, toList()));
+
+        return itemList.stream()
+                .sorted(Comparator.comparingInt(Item::getId))
+                .map(item -> ItemMapper.toItemDtoOut(
+                        item,
+                        getLastBooking(bookings.get(item.getId()), now),
+                        comments.getOrDefault(item.getId(), Collections.emptyList()),
+                        commentCounts.getOrDefault(item.getId(), 0L),
+                        getNextBooking(bookings.get(item.getId()), now)
+                ))
+                .collect(Collectors.toList());
+
+    }
+
+    private List<CommentDtoOut> getLatestItemComments(Integer itemId) {
+        List<Comment> comments = commentRepository.findAllByItemIdOrderByCreatedDescIdDesc(itemId,
+                PageRequest.of(0, MAX_ITEM_COMMENTS));
 
         return comments.stream()
                 .map(CommentMapper::toCommentDtoOut)
@@ -245,6 +418,27 @@ public class ItemServiceImpl implements ItemService {
     }
 
 
+    private List<ItemAvailabilityDto.FreeSlot> getFreeSlots(List<Booking> bookings, LocalDateTime from,
+                                                            LocalDateTime to) {
+        List<ItemAvailabilityDto.FreeSlot> freeSlots = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+
+        for (Booking booking : bookings) {
+            if (booking.getStart().isAfter(freeFrom)) {
+                freeSlots.add(new ItemAvailabilityDto.FreeSlot(freeFrom, booking.getStart()));
+            }
+            if (booking.getEnd().isAfter(freeFrom)) {
+                freeFrom = booking.getEnd();
+            }
+        }
+
+        if (freeFrom.isBefore(to)) {
+            freeSlots.add(new ItemAvailabilityDto.FreeSlot(freeFrom, to));
+        }
+
+        return freeSlots;
+    }
+
     private BookingDtoOut getLastBooking(List<BookingDtoOut> bookings, LocalDateTime time) {
         if (bookings == null || bookings.isEmpty()) {
             return null;
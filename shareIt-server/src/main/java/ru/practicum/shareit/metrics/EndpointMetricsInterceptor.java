@@ -0,0 +1,86 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+
+@RequiredArgsConstructor
+public class EndpointMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = EndpointMetricsInterceptor.class.getName() + ".start";
+
+    private static final String BASE_PACKAGE = "ru.practicum.shareit";
+
+    private final MeterRegistry meterRegistry;
+
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isShareItHandler(handler)) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            JdbcStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start == null || !isShareItHandler(handler)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+
+        long latency = System.nanoTime() - (Long) start;
+        JdbcStatistics statistics = JdbcStatistics.stop();
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        Tags tags = Tags.of(
+                "controller", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName(),
+                "status", String.valueOf(response.getStatus()));
+
+        Timer.builder("shareit.endpoint.latency")
+                .description("End-to-end latency of a controller method")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(latency, TimeUnit.NANOSECONDS);
+        Timer.builder("shareit.endpoint.jdbc.time")
+                .description("Time spent executing statements and fetching rows")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("shareit.endpoint.jdbc.statements")
+                .description("JDBC statements executed per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("shareit.endpoint.jdbc.rows")
+                .description("Rows fetched from result sets per request")
+                .baseUnit("rows")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getRows());
+    }
+
+
+    private boolean isShareItHandler(Object handler) {
+        return handler instanceof HandlerMethod
+                && ((HandlerMethod) handler).getBeanType().getName().startsWith(BASE_PACKAGE);
+    }
+
+}
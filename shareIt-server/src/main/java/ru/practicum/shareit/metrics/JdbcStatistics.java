@@ -0,0 +1,51 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Getter;
+
+
+@Getter
+public class JdbcStatistics {
+
+    private static final ThreadLocal<JdbcStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+
+    private long rows;
+
+    private long nanos;
+
+
+    public static void start() {
+        CURRENT.set(new JdbcStatistics());
+    }
+
+    public static JdbcStatistics stop() {
+        JdbcStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics == null ? new JdbcStatistics() : statistics;
+    }
+
+    static void statementExecuted(long nanos) {
+        JdbcStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+            statistics.nanos += nanos;
+        }
+    }
+
+    static void rowFetched(long nanos) {
+        JdbcStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.rows++;
+            statistics.nanos += nanos;
+        }
+    }
+
+    static void fetchFinished(long nanos) {
+        JdbcStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.nanos += nanos;
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package ru.practicum.shareit.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+
+public class JdbcStatisticsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public JdbcStatisticsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) wrap(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return (Connection) wrap(Connection.class, super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable) {
+            ((AutoCloseable) getTargetDataSource()).close();
+        }
+    }
+
+
+    private static Object wrap(Class<?> type, Object target) {
+        return Proxy.newProxyInstance(JdbcStatisticsDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new StatisticsHandler(target));
+    }
+
+
+    private static class StatisticsHandler implements InvocationHandler {
+
+        private final Object target;
+
+        StatisticsHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            if (target instanceof ResultSet && method.getName().equals("next")) {
+                long start = System.nanoTime();
+                boolean hasRow = (Boolean) invokeTarget(method, args);
+                if (hasRow) {
+                    JdbcStatistics.rowFetched(System.nanoTime() - start);
+                } else {
+                    JdbcStatistics.fetchFinished(System.nanoTime() - start);
+                }
+                return hasRow;
+            }
+
+            Object result;
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    result = invokeTarget(method, args);
+                } finally {
+                    JdbcStatistics.statementExecuted(System.nanoTime() - start);
+                }
+            } else {
+                result = invokeTarget(method, args);
+            }
+
+            Class<?> returnType = method.getReturnType();
+            if (result != null && target instanceof Connection && Statement.class.isAssignableFrom(returnType)) {
+                return wrap(returnType, result);
+            }
+            if (result != null && target instanceof Statement && returnType == ResultSet.class) {
+                return wrap(returnType, result);
+            }
+            return result;
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+    }
+
+}
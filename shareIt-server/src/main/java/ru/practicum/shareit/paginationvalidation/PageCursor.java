@@ -0,0 +1,106 @@
+package ru.practicum.shareit.paginationvalidation;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime time;
+
+    private final Integer id;
+
+
+    public static PageCursor of(Integer id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor of(LocalDateTime time, Integer id) {
+        return new PageCursor(time, id);
+    }
+
+    public static PageCursor first() {
+        return new PageCursor(LATEST, Integer.MAX_VALUE);
+    }
+
+    public static PageCursor decodeId(String value) {
+        String[] parts = decode(value);
+        if (parts == null) {
+            return null;
+        }
+        if (parts.length != 1) {
+            throw invalidCursor(value);
+        }
+
+        try {
+            return of(Integer.valueOf(parts[0]));
+        } catch (NumberFormatException e) {
+            throw invalidCursor(value);
+        }
+    }
+
+    public static PageCursor decodeTimeAndId(String value) {
+        String[] parts = decode(value);
+        if (parts == null) {
+            return null;
+        }
+        if (parts.length != 2) {
+            throw invalidCursor(value);
+        }
+
+        try {
+            return of(LocalDateTime.parse(parts[0]), Integer.valueOf(parts[1]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw invalidCursor(value);
+        }
+    }
+
+    public static <T> HttpHeaders nextPageHeaders(List<T> page, int size, Function<T, PageCursor> cursor) {
+        HttpHeaders headers = new HttpHeaders();
+        if (!page.isEmpty() && page.size() == size) {
+            headers.set(NEXT_CURSOR_HEADER, cursor.apply(page.get(page.size() - 1)).encode());
+        }
+        return headers;
+    }
+
+    public String encode() {
+        String value = time == null ? String.valueOf(id) : time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    private static String[] decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor(value);
+        }
+    }
+
+    private static BadRequestException invalidCursor(String value) {
+        return new BadRequestException(PageCursor.class, value, "Некорректный курсор страницы: " + value);
+    }
+
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.request.service.RequestService;
@@ -65,4 +67,19 @@ public class RequestController {
         return fetchedRequests;
     }
 
-}
\ No newline at end of file
+    @GetMapping(path = "/all", params = "after")
+    public ResponseEntity<List<RequestDto>> getRequestsAfter(@RequestParam("after") String after,
+                                                             @RequestParam(required = false,
+                                                                     defaultValue = "100") Integer size,
+                                                             @RequestHeader(REQUEST_HEADER) Integer userId) {
+        log.info("Start fetching requests after cursor '{}' with 'size' parameter = {}", after, size);
+        List<RequestDto> fetchedRequests = requestService.getRequestsAfter(PageCursor.decodeTimeAndId(after), size,
+                userId);
+        log.info("Finish fetching requests after cursor '{}' with 'size' parameter = {}", after, size);
+        return ResponseEntity.ok()
+                .headers(PageCursor.nextPageHeaders(fetchedRequests, size,
+                        request -> PageCursor.of(request.getCreated(), request.getId())))
+                .body(fetchedRequests);
+    }
+
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.request.mapper;
+
+import lombok.experimental.UtilityClass;
+import ru.practicum.shareit.request.dto.RequestDto;
+import ru.practicum.shareit.request.model.Request;
+
+import java.util.List;
+
+
+@UtilityClass
+public class RequestMapper {
+
+    public Request toRequest(RequestDto requestDto) {
+        Request request = new Request();
+        request.setDescription(requestDto.getDescription());
+        return request;
+    }
+
+    public RequestDto toRequestDto(Request request, List<RequestDto.RequestItemDto> items) {
+        return new RequestDto(
+                request.getId(),
+                request.getDescription(),
+                request.getCreated(),
+                items);
+    }
+
+}
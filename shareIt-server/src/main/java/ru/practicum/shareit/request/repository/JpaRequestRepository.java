@@ -1,16 +1,25 @@
 package ru.practicum.shareit.request.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.request.model.Request;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface JpaRequestRepository extends JpaRepository<Request, Integer> {
 
     List<Request> findByRequestorIdOrderByCreatedDesc(Integer userId);
 
-    Page<Request> findAllByRequestorIdNot(Integer userId, Pageable pageable);
+    Slice<Request> findAllByRequestorIdNot(Integer userId, Pageable pageable);
+
+    @Query("SELECT r FROM Request r WHERE r.requestor.id <> :userId" +
+            " AND r.created <= :created AND (r.created < :created OR r.id < :id)" +
+            " ORDER BY r.created DESC, r.id DESC")
+    List<Request> findAllByRequestorIdNotAfter(@Param("userId") Integer userId, @Param("created") LocalDateTime created,
+                                               @Param("id") Integer id, Pageable pageable);
 
 }
\ No newline at end of file
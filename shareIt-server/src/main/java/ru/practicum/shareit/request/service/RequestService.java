@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.model.Request;
 
@@ -15,4 +16,6 @@ public interface RequestService {
 
     List<RequestDto> getRequests(Integer from, Integer size, Integer userId);
 
+    List<RequestDto> getRequestsAfter(PageCursor after, Integer size, Integer userId);
+
 }
\ No newline at end of file
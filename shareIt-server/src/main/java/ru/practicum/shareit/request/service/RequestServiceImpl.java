@@ -1,18 +1,19 @@
 package ru.practicum.shareit.request.service;
 
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.paginationvalidation.PaginationValidator;
 import ru.practicum.shareit.request.dto.RequestDto;
+import ru.practicum.shareit.request.mapper.RequestMapper;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.request.repository.JpaRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -39,8 +40,6 @@ public class RequestServiceImpl implements RequestService {
 
     private final JpaItemRepository itemRepository;
 
-    private final ModelMapper modelMapper;
-
     private final PaginationValidator paginationValidator;
 
 
@@ -52,7 +51,7 @@ public class RequestServiceImpl implements RequestService {
                 .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
                         "Пользователь с id " + userId + " не найден."));
 
-        Request newRequest = modelMapper.map(requestDto, Request.class);
+        Request newRequest = RequestMapper.toRequest(requestDto);
 
         newRequest.setCreated(LocalDateTime.now());
         newRequest.setRequestor(user);
@@ -64,9 +63,10 @@ public class RequestServiceImpl implements RequestService {
     @Override
     public List<RequestDto> getRequestsSent(Integer userId) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
 
 
         List<Request> requestList = requestRepository.findByRequestorIdOrderByCreatedDesc(userId);
@@ -81,11 +81,8 @@ public class RequestServiceImpl implements RequestService {
                 .collect(groupingBy(RequestDto.RequestItemDto::getRequestId, toList()));
 
         return requestList.stream()
-                .map(request -> {
-                    RequestDto requestDto = modelMapper.map(request, RequestDto.class);
-                    requestDto.setItems(items.getOrDefault(request.getId(), Collections.emptyList()));
-                    return requestDto;
-                })
+                .map(request -> RequestMapper.toRequestDto(request,
+                        items.getOrDefault(request.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
 
     }
@@ -93,9 +90,10 @@ public class RequestServiceImpl implements RequestService {
     @Override
     public RequestDto getRequest(Integer requestId, Integer userId) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
 
         Request request = requestRepository.findById(requestId)
                 .orElseThrow(() -> new EntityNotFoundException(Request.class, String.valueOf(requestId),
@@ -106,27 +104,47 @@ public class RequestServiceImpl implements RequestService {
                 .map(ItemMapper::toRequestItemDto)
                 .collect(groupingBy(RequestDto.RequestItemDto::getRequestId, toList()));
 
-        RequestDto requestDto = modelMapper.map(request, RequestDto.class);
-        requestDto.setItems(items.getOrDefault(request.getId(), Collections.emptyList()));
-
-        return requestDto;
+        return RequestMapper.toRequestDto(request, items.getOrDefault(request.getId(), Collections.emptyList()));
 
     }
 
     @Override
     public List<RequestDto> getRequests(Integer from, Integer size, Integer userId) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userId),
-                        "Пользователь с id " + userId + " не найден."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
 
         paginationValidator.validateSearchParameters(from, size);
 
         Pageable pageable = PageRequest.of(from / size, size, Sort.by("created").descending());
 
-        Page<Request> requestPage = requestRepository.findAllByRequestorIdNot(userId, pageable);
+        Slice<Request> requestSlice = requestRepository.findAllByRequestorIdNot(userId, pageable);
+
+        return toRequestDtos(requestSlice.getContent());
+
+    }
+
+    @Override
+    public List<RequestDto> getRequestsAfter(PageCursor after, Integer size, Integer userId) {
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userId),
+                    "Пользователь с id " + userId + " не найден.");
+        }
+
+        paginationValidator.validateSearchParameters(0, size);
+
+        PageCursor cursor = after == null ? PageCursor.first() : after;
+
+        return toRequestDtos(requestRepository.findAllByRequestorIdNotAfter(userId, cursor.getTime(), cursor.getId(),
+                PageRequest.of(0, size)));
+
+    }
+
 
-        List<Request> requestList = requestPage.getContent();
+    private List<RequestDto> toRequestDtos(List<Request> requestList) {
 
         if (requestList.isEmpty()) {
             return Collections.emptyList();
@@ -142,11 +160,8 @@ public class RequestServiceImpl implements RequestService {
                 .collect(Collectors.groupingBy(RequestDto.RequestItemDto::getRequestId));
 
         return requestList.stream()
-                .map(request -> {
-                    RequestDto requestDto = modelMapper.map(request, RequestDto.class);
-                    requestDto.setItems(items.getOrDefault(request.getId(), Collections.emptyList()));
-                    return requestDto;
-                })
+                .map(request -> RequestMapper.toRequestDto(request,
+                        items.getOrDefault(request.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
 
     }
@@ -1,13 +1,24 @@
 package ru.practicum.shareit.user.repository;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface JpaUserRepository extends JpaRepository<User, Integer> {
 
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, unless = "#result == null")
+    Optional<User> findById(Integer id);
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USER_IDS, unless = "!#result")
+    boolean existsById(Integer id);
+
     User findByEmail(String email);
 
     List<User> findAll(Sort sort);
@@ -1,11 +1,17 @@
 package ru.practicum.shareit.user.service;
 
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.repository.JpaBookingCounterRepository;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exceptions.EntityAlreadyExistsException;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.repository.JpaUserRepository;
 import ru.practicum.shareit.user.model.User;
 
@@ -21,6 +27,12 @@ public class UserServiceImpl implements UserService {
 
     private final JpaUserRepository userRepository;
 
+    private final JpaBookingCounterRepository bookingCounterRepository;
+
+    private final JpaItemRepository itemRepository;
+
+    private final ItemSearchEngine itemSearchEngine;
+
 
     @Override
     @Transactional
@@ -34,12 +46,15 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userID")
     public User update(Integer userID, User updatedUser) {
 
-        User user = userRepository.findById(userID)
+        User existingUser = userRepository.findById(userID)
                 .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userID),
                         "Пользователь с id " + userID + " не найден."));
 
+        User user = new User(existingUser.getId(), existingUser.getName(), existingUser.getEmail());
+
         if (!Objects.equals(user.getEmail(), updatedUser.getEmail()) &&
                 userRepository.findByEmail(updatedUser.getEmail()) != null) {
             throw new EntityAlreadyExistsException(User.class,
@@ -74,11 +89,19 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userID"),
+            @CacheEvict(cacheNames = CacheConfig.USER_IDS, key = "#userID"),
+            @CacheEvict(cacheNames = CacheConfig.ITEMS, allEntries = true)
+    })
     public void deleteById(Integer userID) {
-        userRepository.findById(userID)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, String.valueOf(userID),
-                        "Пользователь с id " + userID + " не найден."));
+        if (!userRepository.existsById(userID)) {
+            throw new EntityNotFoundException(User.class, String.valueOf(userID),
+                    "Пользователь с id " + userID + " не найден.");
+        }
 
+        bookingCounterRepository.subtractBookingsOfBooker(userID);
+        itemSearchEngine.removeAll(itemRepository.findIdsByOwnerId(userID));
         userRepository.deleteById(userID);
     }
 
@@ -1,5 +1,3 @@
-DROP TABLE IF EXISTS requests, comments, bookings, users, items;
-
 CREATE TABLE IF NOT EXISTS users (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     name VARCHAR(100) NOT NULL,
@@ -48,4 +46,4 @@ CREATE TABLE IF NOT EXISTS comments (
     created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 
     CONSTRAINT pk_comment PRIMARY KEY (id)
-);
\ No newline at end of file
+);
@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH ${id_allocation_size} INCREMENT BY ${id_allocation_size};
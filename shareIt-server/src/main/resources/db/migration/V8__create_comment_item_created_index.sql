@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_comments_item_created ON comments (item_id, created DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_comments_item;
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS booking_counters (
+    item_id int references items (id) ON DELETE CASCADE,
+    status VARCHAR(50) NOT NULL,
+    bookings_count BIGINT NOT NULL,
+
+    CONSTRAINT pk_booking_counter PRIMARY KEY (item_id, status)
+);
+
+INSERT INTO booking_counters (item_id, status, bookings_count)
+SELECT item_id, status, COUNT(*) FROM bookings GROUP BY item_id, status;
+
+CREATE INDEX IF NOT EXISTS idx_bookings_item_end ON bookings (item_id, end_time);
@@ -8,28 +8,42 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingExportFormat;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingTimeState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exceptions.EntityNotFoundException;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.user.model.User;
 
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -177,4 +191,125 @@ class BookingControllerIntegrationTest {
                 .andExpect(jsonPath("$.bookingTimeState").doesNotExist());
     }
 
+    @SneakyThrows
+    @Test
+    void getBookingsReceivedByUserIdAfter_ReturnsNextCursorWhenPageIsFull() {
+        when(bookingService.getBookingsReceivedAfter(anyInt(), anyString(), isNull(), anyInt()))
+                .thenReturn(List.of(booking));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .param("state", "ALL")
+                        .param("after", "")
+                        .param("size", "1")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id", is(booking.getId()), Integer.class))
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER,
+                        PageCursor.of(booking.getStart(), booking.getId()).encode()));
+    }
+
+    @SneakyThrows
+    @Test
+    void getBookingsSentByUserIdAfter_InvalidCursor() {
+        mockMvc.perform(get("/bookings")
+                        .param("after", "not a cursor")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isBadRequest());
+    }
+
+    @SneakyThrows
+    @Test
+    void updateBookingStatuses() {
+        when(bookingService.updateBookingStatuses(user.getId(), List.of(1, 2), true)).thenReturn(List.of(
+                new BookingBatchResultDto(1, BookingState.APPROVED, null),
+                new BookingBatchResultDto(2, null, "Бронирование с id 2 не найдено.")));
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .param("approved", "true")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .content(objectMapper.writeValueAsString(new BookingBatchDto(List.of(1, 2))))
+                        .contentType(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].status", is("APPROVED")))
+                .andExpect(jsonPath("$[1].error", is("Бронирование с id 2 не найдено.")));
+    }
+
+    @SneakyThrows
+    @Test
+    void updateBookingStatuses_EmptyBatch() {
+        mockMvc.perform(patch("/bookings/batch")
+                        .param("approved", "true")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .content(objectMapper.writeValueAsString(new BookingBatchDto(Collections.emptyList())))
+                        .contentType(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isBadRequest());
+    }
+
+    @SneakyThrows
+    @Test
+    void getBookingsSummaryByUserId() {
+        BookingSummaryDto summary = new BookingSummaryDto(Map.of("WAITING", 2L),
+                List.of(new BookingSummaryDto.ItemSummary(item.getId(), Map.of("WAITING", 2L))));
+
+        when(bookingService.getBookingsSummary(user.getId())).thenReturn(summary);
+
+        mockMvc.perform(get("/bookings/owner/summary")
+                        .header("X-Sharer-User-Id", user.getId()))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.WAITING", is(2)))
+                .andExpect(jsonPath("$.items[0].itemId", is(item.getId())))
+                .andExpect(jsonPath("$.items[0].counts.WAITING", is(2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void exportBookingsReceivedByUserId() {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("id,start\n1,2030-01-01T12:00\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            return null;
+        }).when(bookingService).exportBookingsReceived(eq(user.getId()), eq(BookingExportFormat.CSV), any());
+
+        mockMvc.perform(get("/bookings/owner/export")
+                        .param("format", "csv")
+                        .header("X-Sharer-User-Id", user.getId()))
+
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(content().string("id,start\n1,2030-01-01T12:00\n"));
+    }
+
+    @SneakyThrows
+    @Test
+    void exportBookingsReceivedByUserId_UserNotFound() {
+        doThrow(new EntityNotFoundException(User.class, String.valueOf(user.getId()), "not found"))
+                .when(bookingService).exportBookingsReceived(anyInt(), any(), any());
+
+        mockMvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @SneakyThrows
+    @Test
+    void exportBookingsReceivedByUserId_UnknownFormat() {
+        mockMvc.perform(get("/bookings/owner/export")
+                        .param("format", "xml")
+                        .header("X-Sharer-User-Id", user.getId()))
+
+                .andExpect(status().isBadRequest());
+    }
+
 }
\ No newline at end of file
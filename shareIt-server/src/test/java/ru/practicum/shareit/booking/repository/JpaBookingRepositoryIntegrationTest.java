@@ -5,8 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingTimeState;
@@ -20,6 +20,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 @DataJpaTest
@@ -111,34 +113,136 @@ class JpaBookingRepositoryIntegrationTest {
     }
 
     @Test
-    void findAllByItemAndStatusOrderByStartAsc() {
-        List<Booking> bookings = bookingRepository.findAllByItemAndStatusOrderByStartAsc(item2, BookingState.APPROVED);
-        assertEquals(1, bookings.size());
-        assertEquals(booking2.getId(), bookings.get(0).getId());
-    }
+    void findLastAndNextBookingIds() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking past = bookingRepository.save(Booking.builder()
+                .start(now.minusDays(5))
+                .end(now.minusDays(4))
+                .item(item2)
+                .booker(user1)
+                .status(BookingState.APPROVED)
+                .build());
+        Booking latestPast = bookingRepository.save(Booking.builder()
+                .start(now.minusDays(2))
+                .end(now.minusDays(1))
+                .item(item2)
+                .booker(user1)
+                .status(BookingState.APPROVED)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .start(now.plusDays(5))
+                .end(now.plusDays(6))
+                .item(item2)
+                .booker(user1)
+                .status(BookingState.APPROVED)
+                .build());
 
-    @Test
-    void findAllByItemInAndStatusOrderByStartAsc() {
-        List<Booking> bookings = bookingRepository
-                .findAllByItemInAndStatusOrderByStartAsc(Arrays.asList(item1, item2), BookingState.WAITING);
-        assertEquals(1, bookings.size());
-        assertEquals(booking1.getId(), bookings.get(0).getId());
+        List<Integer> ids = bookingRepository.findLastAndNextBookingIds(Arrays.asList(item1.getId(), item2.getId()),
+                BookingState.APPROVED.name(), now);
+
+        assertEquals(3, ids.size());
+        assertTrue(ids.containsAll(Arrays.asList(latestPast.getId(), booking2.getId())));
+        assertTrue(ids.contains(null));
+        assertFalse(ids.contains(past.getId()));
     }
 
     @Test
     void findBookingsByBooker_Id() {
-        Page<Booking> bookings = bookingRepository
+        Slice<Booking> bookings = bookingRepository
                 .findBookingsByBooker_Id(user2.getId(), PageRequest.of(0, 10));
-        assertEquals(1, bookings.getTotalElements());
+        assertEquals(1, bookings.getNumberOfElements());
         assertEquals(booking2.getId(), bookings.getContent().get(0).getId());
     }
 
     @Test
     void findBookingsByItem_Owner_Id() {
-        Page<Booking> bookings = bookingRepository
+        Slice<Booking> bookings = bookingRepository
                 .findBookingsByItem_Owner_Id(user1.getId(), PageRequest.of(0, 10));
-        assertEquals(1, bookings.getTotalElements());
+        assertEquals(1, bookings.getNumberOfElements());
+        assertEquals(booking1.getId(), bookings.getContent().get(0).getId());
+    }
+
+    @Test
+    void findBookingsByBooker_IdAndStartAfter() {
+        Slice<Booking> bookings = bookingRepository
+                .findBookingsByBooker_IdAndStartAfter(user1.getId(), LocalDateTime.now(), PageRequest.of(0, 10));
+        assertEquals(1, bookings.getNumberOfElements());
+        assertEquals(booking1.getId(), bookings.getContent().get(0).getId());
+    }
+
+    @Test
+    void findBookingsByBooker_IdAndEndBefore() {
+        Slice<Booking> bookings = bookingRepository
+                .findBookingsByBooker_IdAndEndBefore(user1.getId(), LocalDateTime.now(), PageRequest.of(0, 10));
+        assertEquals(0, bookings.getNumberOfElements());
+    }
+
+    @Test
+    void findBookingsByBooker_IdAndStartBeforeAndEndAfter() {
+        LocalDateTime now = LocalDateTime.now().plusDays(1).plusHours(12);
+        Slice<Booking> bookings = bookingRepository
+                .findBookingsByBooker_IdAndStartBeforeAndEndAfter(user1.getId(), now, now, PageRequest.of(0, 10));
+        assertEquals(1, bookings.getNumberOfElements());
         assertEquals(booking1.getId(), bookings.getContent().get(0).getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    void findBookingsByItem_Owner_IdAndStatus() {
+        Slice<Booking> waiting = bookingRepository
+                .findBookingsByItem_Owner_IdAndStatus(user1.getId(), BookingState.WAITING, PageRequest.of(0, 10));
+        Slice<Booking> approved = bookingRepository
+                .findBookingsByItem_Owner_IdAndStatus(user1.getId(), BookingState.APPROVED, PageRequest.of(0, 10));
+        assertEquals(1, waiting.getNumberOfElements());
+        assertEquals(booking1.getId(), waiting.getContent().get(0).getId());
+        assertEquals(0, approved.getNumberOfElements());
+    }
+
+    @Test
+    void findBookingsByItem_Owner_IdAndStartAfter() {
+        Slice<Booking> bookings = bookingRepository
+                .findBookingsByItem_Owner_IdAndStartAfter(user2.getId(), LocalDateTime.now().plusDays(5),
+                        PageRequest.of(0, 10));
+        assertEquals(0, bookings.getNumberOfElements());
+    }
+
+    @Test
+    void existsByItem_IdAndStatusInAndStartBeforeAndEndAfter() {
+        List<BookingState> states = List.of(BookingState.WAITING, BookingState.APPROVED);
+
+        assertTrue(bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(item1.getId(), states,
+                booking1.getEnd().plusHours(1), booking1.getStart().plusHours(1)));
+        assertFalse(bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(item1.getId(), states,
+                booking1.getEnd().plusHours(2), booking1.getEnd()));
+        assertFalse(bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(item1.getId(),
+                List.of(BookingState.APPROVED), booking1.getEnd(), booking1.getStart()));
+    }
+
+    @Test
+    void existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter() {
+        List<BookingState> states = List.of(BookingState.WAITING, BookingState.APPROVED);
+
+        assertTrue(bookingRepository.existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(item2.getId(),
+                booking1.getId(), states, booking2.getEnd(), booking2.getStart()));
+        assertFalse(bookingRepository.existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(item2.getId(),
+                booking2.getId(), states, booking2.getEnd(), booking2.getStart()));
+        assertTrue(bookingRepository.existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(item1.getId(),
+                booking2.getId(), states, booking1.getEnd(), booking1.getStart()));
+        assertFalse(bookingRepository.existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(item1.getId(),
+                booking2.getId(), List.of(BookingState.APPROVED), booking1.getEnd(), booking1.getStart()));
+    }
+
+    @Test
+    void findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc() {
+        List<Booking> bookings = bookingRepository.findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(
+                List.of(item1.getId(), item2.getId()), List.of(BookingState.WAITING, BookingState.APPROVED),
+                booking2.getEnd(), booking1.getStart());
+        assertEquals(2, bookings.size());
+        assertEquals(booking1.getId(), bookings.get(0).getId());
+        assertEquals(booking2.getId(), bookings.get(1).getId());
+
+        bookings = bookingRepository.findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(
+                List.of(item1.getId()), List.of(BookingState.APPROVED), booking1.getEnd(), booking1.getStart());
+        assertEquals(0, bookings.size());
+    }
+
+}
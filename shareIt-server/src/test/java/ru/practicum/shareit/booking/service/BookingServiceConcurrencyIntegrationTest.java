@@ -0,0 +1,252 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCounter;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.repository.JpaBookingCounterRepository;
+import ru.practicum.shareit.booking.repository.JpaBookingRepository;
+import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.exceptions.EntityAlreadyExistsException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.JpaUserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+@SpringBootTest(
+        properties = "spring.datasource.username=shareit",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class BookingServiceConcurrencyIntegrationTest {
+
+    private static final int THREADS = 8;
+
+    private static final int SLOTS = 20;
+
+    @Autowired
+    private BookingService service;
+
+    @Autowired
+    private JpaBookingRepository bookingRepository;
+
+    @Autowired
+    private JpaBookingCounterRepository bookingCounterRepository;
+
+    @Autowired
+    private JpaItemRepository itemRepository;
+
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    private final List<User> bookers = new ArrayList<>();
+
+    private User owner;
+
+    private Item item;
+
+    @BeforeEach
+    public void addOwnerItemAndBookers() {
+        owner = userRepository.save(new User("stress owner", "stress-owner@email.com"));
+        item = itemRepository.save(new Item(null, "stress item", "stress item description",
+                true, owner, null));
+
+        for (int i = 0; i < THREADS; i++) {
+            bookers.add(userRepository.save(new User("stress booker " + i, "stress-booker" + i + "@email.com")));
+        }
+    }
+
+    @AfterEach
+    public void removeOwnerItemAndBookers() {
+        bookingRepository.deleteAll(bookingRepository.findAll());
+        itemRepository.delete(item);
+        userRepository.deleteAll(bookers);
+        userRepository.delete(owner);
+        bookers.clear();
+    }
+
+
+    @Test
+    void add_ConcurrentOverlappingBookingsNeverDoubleBook() throws Exception {
+        LocalDateTime firstSlot = LocalDateTime.now().plusDays(1).withNano(0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (User booker : bookers) {
+                Callable<Integer> task = () -> {
+                    startLatch.await();
+                    int conflicts = 0;
+                    for (int slot = 0; slot < SLOTS; slot++) {
+                        BookingDto bookingDto = BookingDto.builder()
+                                .itemId(item.getId())
+                                .start(firstSlot.plusHours(slot))
+                                .end(firstSlot.plusHours(slot + 1))
+                                .build();
+                        try {
+                            service.add(booker.getId(), bookingDto);
+                        } catch (EntityAlreadyExistsException e) {
+                            conflicts++;
+                        }
+                    }
+                    return conflicts;
+                };
+                results.add(executor.submit(task));
+            }
+
+            startLatch.countDown();
+
+            int conflicts = 0;
+            for (Future<Integer> result : results) {
+                conflicts += result.get(60, TimeUnit.SECONDS);
+            }
+
+            assertEquals(THREADS * SLOTS - SLOTS, conflicts);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Booking> bookings = bookingRepository.findAll();
+        assertEquals(SLOTS, bookings.size());
+
+        for (Booking booking : bookings) {
+            assertEquals(BookingState.WAITING, booking.getStatus());
+            for (Booking other : bookings) {
+                if (!booking.getId().equals(other.getId())) {
+                    assertFalse(booking.getStart().isBefore(other.getEnd())
+                            && booking.getEnd().isAfter(other.getStart()));
+                }
+            }
+        }
+        assertTrue(bookings.stream().allMatch(booking -> booking.getItem().getId().equals(item.getId())));
+    }
+
+    @Test
+    void updateBookingStatus_ConcurrentApproveAndRejectKeepCountersInSync() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        Booking booking = service.add(bookers.get(0).getId(), BookingDto.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(start.plusHours(1))
+                .build());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                boolean approved = i % 2 == 0;
+                Callable<Integer> task = () -> {
+                    startLatch.await();
+                    int refused = 0;
+                    for (int attempt = 0; attempt < SLOTS; attempt++) {
+                        try {
+                            service.updateBookingStatus(owner.getId(), booking.getId(), approved);
+                        } catch (BadRequestException e) {
+                            refused++;
+                        }
+                    }
+                    return refused;
+                };
+                results.add(executor.submit(task));
+            }
+
+            startLatch.countDown();
+
+            for (Future<Integer> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BookingState status = bookingRepository.findById(booking.getId()).orElseThrow().getStatus();
+        Map<BookingState, Long> counters = bookingCounterRepository.findAllByItemOwnerId(owner.getId())
+                .stream()
+                .collect(Collectors.toMap(BookingCounter::getStatus, BookingCounter::getBookingsCount));
+
+        assertEquals(BookingState.APPROVED, status);
+        assertEquals(1L, counters.get(BookingState.APPROVED));
+        assertEquals(0L, counters.getOrDefault(BookingState.WAITING, 0L));
+        assertEquals(0L, counters.getOrDefault(BookingState.REJECTED, 0L));
+    }
+
+    @Test
+    void updateBookingStatus_ReapprovingRejectedBookingNeverOverlapsActiveBooking() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        BookingDto bookingDto = BookingDto.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(start.plusHours(2))
+                .build();
+        Booking rejected = service.add(bookers.get(0).getId(), bookingDto);
+        service.updateBookingStatus(owner.getId(), rejected.getId(), false);
+        Booking waiting = service.add(bookers.get(1).getId(), BookingDto.builder()
+                .itemId(item.getId())
+                .start(start.plusHours(1))
+                .end(start.plusHours(3))
+                .build());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                Integer bookingId = i % 2 == 0 ? rejected.getId() : waiting.getId();
+                Callable<Integer> task = () -> {
+                    startLatch.await();
+                    try {
+                        service.updateBookingStatus(owner.getId(), bookingId, true);
+                        return 1;
+                    } catch (BadRequestException | EntityAlreadyExistsException e) {
+                        return 0;
+                    }
+                };
+                results.add(executor.submit(task));
+            }
+
+            startLatch.countDown();
+
+            int approvals = 0;
+            for (Future<Integer> result : results) {
+                approvals += result.get(60, TimeUnit.SECONDS);
+            }
+
+            assertEquals(1, approvals);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<BookingState, Long> counters = bookingCounterRepository.findAllByItemOwnerId(owner.getId())
+                .stream()
+                .collect(Collectors.toMap(BookingCounter::getStatus, BookingCounter::getBookingsCount));
+
+        assertEquals(BookingState.REJECTED, bookingRepository.findById(rejected.getId()).orElseThrow().getStatus());
+        assertEquals(BookingState.APPROVED, bookingRepository.findById(waiting.getId()).orElseThrow().getStatus());
+        assertEquals(1L, counters.get(BookingState.APPROVED));
+        assertEquals(1L, counters.get(BookingState.REJECTED));
+        assertEquals(0L, counters.getOrDefault(BookingState.WAITING, 0L));
+    }
+
+}
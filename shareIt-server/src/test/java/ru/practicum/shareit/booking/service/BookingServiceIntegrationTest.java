@@ -1,21 +1,28 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingExportFormat;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingTimeState;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -34,9 +41,6 @@ class BookingServiceIntegrationTest {
 
     private final BookingService service;
 
-    @Autowired
-    private ModelMapper modelMapper;
-
 
     @Test
     void add() {
@@ -62,7 +66,11 @@ class BookingServiceIntegrationTest {
                 .bookingTimeState(BookingTimeState.ALL)
                 .build();
 
-        BookingDto bookingDto = modelMapper.map(booking, BookingDto.class);
+        BookingDto bookingDto = BookingDto.builder()
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .itemId(item.getId())
+                .build();
 
         Booking savedBooking = service.add(booker.getId(), bookingDto);
 
@@ -211,4 +219,167 @@ class BookingServiceIntegrationTest {
         assertEquals(BookingState.APPROVED, updatedBooking.getStatus());
     }
 
-}
\ No newline at end of file
+    @Test
+    void getBookingsReceivedAfter_WalksAllPagesAcrossEqualStartTimes() {
+        User owner = new User(null, "owner", "cursor-owner@email.com");
+        em.persist(owner);
+        User booker = new User(null, "booker", "cursor-booker@email.com");
+        em.persist(booker);
+        Item item = new Item(null, "item name", "item description", true, owner, null);
+        em.persist(item);
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+        List<Integer> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Booking booking = Booking.builder()
+                    .start(i < 3 ? start : start.minusDays(i))
+                    .end(start.plusDays(1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingState.WAITING)
+                    .build();
+            em.persist(booking);
+            expectedIds.add(booking.getId());
+        }
+        em.flush();
+
+        List<Integer> expectedOrder = List.of(expectedIds.get(2), expectedIds.get(1), expectedIds.get(0),
+                expectedIds.get(3), expectedIds.get(4));
+
+        List<Integer> fetchedIds = new ArrayList<>();
+        PageCursor cursor = null;
+        List<Booking> page;
+        do {
+            page = service.getBookingsReceivedAfter(owner.getId(), "ALL", cursor, 2);
+            page.forEach(booking -> fetchedIds.add(booking.getId()));
+            if (!page.isEmpty()) {
+                Booking last = page.get(page.size() - 1);
+                cursor = PageCursor.of(last.getStart(), last.getId());
+            }
+        } while (page.size() == 2);
+
+        assertEquals(expectedOrder, fetchedIds);
+    }
+
+    @Test
+    @SneakyThrows
+    void exportBookingsReceived_WritesOneLinePerBooking() {
+        User owner = new User(null, "owner", "export-owner@email.com");
+        em.persist(owner);
+        User booker = new User(null, "booker, junior", "export-booker@email.com");
+        em.persist(booker);
+        Item item = new Item(null, "drill", "item description", true, owner, null);
+        em.persist(item);
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+        Booking first = new Booking(null, start, start.plusDays(1), item, booker, BookingState.APPROVED, null);
+        em.persist(first);
+        Booking second = new Booking(null, start.plusDays(2), start.plusDays(3), item, booker,
+                BookingState.WAITING, null);
+        em.persist(second);
+        em.flush();
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        service.exportBookingsReceived(owner.getId(), BookingExportFormat.NDJSON, ndjson);
+        String[] ndjsonLines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, ndjsonLines.length);
+        assertTrue(ndjsonLines[0].contains("\"id\":" + second.getId()));
+        assertTrue(ndjsonLines[1].contains("\"itemName\":\"drill\""));
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        service.exportBookingsReceived(owner.getId(), BookingExportFormat.CSV, csv);
+        String[] csvLines = csv.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(3, csvLines.length);
+        assertEquals("id,start,end,status,itemId,itemName,bookerId,bookerName", csvLines[0]);
+        assertEquals(first.getId() + ",2030-01-01T12:00,2030-01-02T12:00,APPROVED," + item.getId() +
+                ",drill," + booker.getId() + ",\"booker, junior\"", csvLines[2]);
+    }
+
+    @Test
+    void getBookingsSummary_FollowsStatusChanges() {
+        User owner = new User(null, "owner", "owner@email.com");
+        em.persist(owner);
+        User booker = new User(null, "booker", "booker@email.com");
+        em.persist(booker);
+        Item item = new Item(null, "item name", "item description",
+                true, owner, null);
+        em.persist(item);
+        em.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            bookings.add(service.add(booker.getId(), BookingDto.builder()
+                    .start(now.plusDays(i * 2L))
+                    .end(now.plusDays(i * 2L + 1))
+                    .itemId(item.getId())
+                    .build()));
+        }
+        service.updateBookingStatus(owner.getId(), bookings.get(0).getId(), true);
+        service.updateBookingStatus(owner.getId(), bookings.get(1).getId(), false);
+        service.updateBookingStatus(owner.getId(), bookings.get(1).getId(), true);
+        service.updateBookingStatus(owner.getId(), bookings.get(2).getId(), false);
+
+        BookingSummaryDto summary = service.getBookingsSummary(owner.getId());
+
+        assertEquals(1, summary.getItems().size());
+        assertEquals(item.getId(), summary.getItems().get(0).getItemId());
+        assertEquals(0L, summary.getTotal().get("WAITING"));
+        assertEquals(2L, summary.getTotal().get("APPROVED"));
+        assertEquals(1L, summary.getTotal().get("REJECTED"));
+        assertEquals(0L, summary.getTotal().get("CURRENT"));
+        assertEquals(3L, summary.getTotal().get("FUTURE"));
+    }
+
+    @Test
+    void updateBookingStatuses() {
+        User owner = new User(null, "owner", "owner@email.com");
+        em.persist(owner);
+        User otherOwner = new User(null, "other owner", "other@email.com");
+        em.persist(otherOwner);
+        User booker = new User(null, "booker", "booker@email.com");
+        em.persist(booker);
+        Item item = new Item(null, "item name", "item description",
+                true, owner, null);
+        em.persist(item);
+        Item otherItem = new Item(null, "other item name", "other item description",
+                true, otherOwner, null);
+        em.persist(otherItem);
+        em.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        Booking first = service.add(booker.getId(), BookingDto.builder()
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .itemId(item.getId())
+                .build());
+        Booking second = service.add(booker.getId(), BookingDto.builder()
+                .start(now.plusDays(3))
+                .end(now.plusDays(4))
+                .itemId(item.getId())
+                .build());
+        Booking foreign = service.add(booker.getId(), BookingDto.builder()
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .itemId(otherItem.getId())
+                .build());
+        em.flush();
+
+        List<BookingBatchResultDto> results = service.updateBookingStatuses(owner.getId(),
+                List.of(first.getId(), second.getId(), foreign.getId()), true);
+        em.clear();
+
+        assertEquals(3, results.size());
+        assertEquals(BookingState.APPROVED, results.get(0).getStatus());
+        assertEquals(BookingState.APPROVED, results.get(1).getStatus());
+        assertNotNull(results.get(2).getError());
+        assertEquals(BookingState.APPROVED, em.find(Booking.class, first.getId()).getStatus());
+        assertEquals(BookingState.APPROVED, em.find(Booking.class, second.getId()).getStatus());
+        assertEquals(BookingState.WAITING, em.find(Booking.class, foreign.getId()).getStatus());
+        assertEquals(0L, service.getBookingsSummary(owner.getId()).getTotal().get("WAITING"));
+        assertEquals(2L, service.getBookingsSummary(owner.getId()).getTotal().get("APPROVED"));
+    }
+
+}
@@ -3,18 +3,24 @@ package ru.practicum.shareit.booking.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSummaryDto;
+import ru.practicum.shareit.booking.dto.BookingTimeCountDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCounter;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingTimeState;
+import ru.practicum.shareit.booking.repository.JpaBookingCounterRepository;
 import ru.practicum.shareit.booking.repository.JpaBookingRepository;
 import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.exceptions.EntityAlreadyExistsException;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.JpaItemRepository;
@@ -23,15 +29,18 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.JpaUserRepository;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,13 +52,13 @@ class BookingServiceTest {
     private JpaBookingRepository bookingRepository;
 
     @Mock
-    private JpaUserRepository userRepository;
+    private JpaBookingCounterRepository bookingCounterRepository;
 
     @Mock
-    private JpaItemRepository itemRepository;
+    private JpaUserRepository userRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private JpaItemRepository itemRepository;
 
     @Mock
     private PaginationValidator paginationValidator;
@@ -109,6 +118,18 @@ class BookingServiceTest {
         assertEquals("Start/end time cannot be null", exception.getMessage());
     }
 
+    @Test
+    public void testAdd_EndNotAfterStart() {
+        bookingDto.setEnd(bookingDto.getStart());
+
+        assertThrows(BadRequestException.class, () -> bookingService.add(booker.getId(), bookingDto));
+
+        bookingDto.setEnd(bookingDto.getStart().minusHours(1));
+
+        assertThrows(BadRequestException.class, () -> bookingService.add(booker.getId(), bookingDto));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
     @Test
     public void testAdd_UserNotFound() {
         when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
@@ -146,7 +167,6 @@ class BookingServiceTest {
     public void testAdd_Success() {
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(booker));
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(modelMapper.map(any(BookingDto.class), any(Class.class))).thenReturn(booking);
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
 
         Booking result = bookingService.add(booker.getId(), bookingDto);
@@ -154,11 +174,25 @@ class BookingServiceTest {
         assertNotNull(result);
         assertEquals(booking, result);
         verify(bookingRepository).save(any(Booking.class));
+        verify(bookingCounterRepository).addToCount(item.getId(), BookingState.WAITING, 1);
+        verify(bookingCounterRepository).save(any(BookingCounter.class));
+    }
+
+    @Test
+    public void testAdd_OverlappingBooking() {
+        when(userRepository.findById(anyInt())).thenReturn(Optional.of(booker));
+        when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
+        when(bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(anyInt(), anyCollection(),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+
+        assertThrows(EntityAlreadyExistsException.class, () -> bookingService.add(booker.getId(), bookingDto));
+        verify(itemRepository).lockById(item.getId());
+        verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
     public void testUpdateBookingStatus_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class,
                 () -> bookingService.updateBookingStatus(owner.getId(), booking.getId(), true));
@@ -166,8 +200,8 @@ class BookingServiceTest {
 
     @Test
     public void testUpdateBookingStatus_BookingNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(owner));
-        when(bookingRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findItemIdById(anyInt())).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
                 () -> bookingService.updateBookingStatus(owner.getId(), booking.getId(), true));
@@ -175,7 +209,8 @@ class BookingServiceTest {
 
     @Test
     public void testUpdateBookingStatus_UserNotOwner() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(booker));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findItemIdById(anyInt())).thenReturn(Optional.of(item.getId()));
         when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
 
         assertThrows(EntityNotFoundException.class,
@@ -186,7 +221,8 @@ class BookingServiceTest {
     public void testUpdateBookingStatus_BookingAlreadyApproved() {
         booking.setStatus(BookingState.APPROVED);
 
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(owner));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findItemIdById(anyInt())).thenReturn(Optional.of(item.getId()));
         when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
 
         assertThrows(BadRequestException.class,
@@ -195,7 +231,8 @@ class BookingServiceTest {
 
     @Test
     public void testUpdateBookingStatus_Approved() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(owner));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findItemIdById(anyInt())).thenReturn(Optional.of(item.getId()));
         when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -204,11 +241,45 @@ class BookingServiceTest {
         assertNotNull(result);
         assertEquals(BookingState.APPROVED, result.getStatus());
         verify(bookingRepository).save(any(Booking.class));
+        verify(bookingCounterRepository).addToCount(item.getId(), BookingState.WAITING, -1);
+        verify(bookingCounterRepository).addToCount(item.getId(), BookingState.APPROVED, 1);
+    }
+
+    @Test
+    public void testUpdateBookingStatus_OverlapsActiveBooking() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findItemIdById(anyInt())).thenReturn(Optional.of(item.getId()));
+        when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
+        when(bookingRepository.existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(anyInt(), anyInt(),
+                eq(List.of(BookingState.WAITING, BookingState.APPROVED)), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(true);
+
+        assertThrows(EntityAlreadyExistsException.class,
+                () -> bookingService.updateBookingStatus(owner.getId(), booking.getId(), true));
+        assertEquals(BookingState.WAITING, booking.getStatus());
+    }
+
+    @Test
+    public void testUpdateBookingStatus_RejectedBookingOverlapsWaitingBooking() {
+        booking.setStatus(BookingState.REJECTED);
+
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findItemIdById(anyInt())).thenReturn(Optional.of(item.getId()));
+        when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
+        when(bookingRepository.existsByItem_IdAndIdNotAndStatusInAndStartBeforeAndEndAfter(item.getId(),
+                booking.getId(), List.of(BookingState.WAITING, BookingState.APPROVED), booking.getEnd(),
+                booking.getStart())).thenReturn(true);
+
+        assertThrows(EntityAlreadyExistsException.class,
+                () -> bookingService.updateBookingStatus(owner.getId(), booking.getId(), true));
+        assertEquals(BookingState.REJECTED, booking.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
     public void testUpdateBookingStatus_Rejected() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(owner));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findItemIdById(anyInt())).thenReturn(Optional.of(item.getId()));
         when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -217,12 +288,151 @@ class BookingServiceTest {
         assertNotNull(result);
         assertEquals(BookingState.REJECTED, result.getStatus());
         verify(bookingRepository).save(any(Booking.class));
+        InOrder inOrder = inOrder(itemRepository, bookingRepository);
+        inOrder.verify(itemRepository).lockById(item.getId());
+        inOrder.verify(bookingRepository).findById(booking.getId());
+        verify(bookingCounterRepository).addToCount(item.getId(), BookingState.WAITING, -1);
+        verify(bookingCounterRepository).addToCount(item.getId(), BookingState.REJECTED, 1);
+    }
+
+    @Test
+    public void testUpdateBookingStatuses_ReportsResultPerId() {
+        Booking approvedBooking = new Booking();
+        approvedBooking.setId(3);
+        approvedBooking.setStart(booking.getEnd().plusDays(1));
+        approvedBooking.setEnd(booking.getEnd().plusDays(2));
+        approvedBooking.setItem(item);
+        approvedBooking.setStatus(BookingState.APPROVED);
+
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findAllByIdInAndItemOwnerId(List.of(1, 2, 3), owner.getId()))
+                .thenReturn(List.of(booking, approvedBooking));
+        when(bookingRepository.findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(anyCollection(),
+                eq(List.of(BookingState.WAITING, BookingState.APPROVED)), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(List.of(approvedBooking));
+
+        List<BookingBatchResultDto> results = bookingService.updateBookingStatuses(owner.getId(),
+                List.of(1, 2, 3, 1), true);
+
+        assertEquals(3, results.size());
+        assertEquals(BookingState.APPROVED, results.get(0).getStatus());
+        assertNull(results.get(0).getError());
+        assertNull(results.get(1).getStatus());
+        assertNotNull(results.get(1).getError());
+        assertNotNull(results.get(2).getError());
+        verify(itemRepository).lockAllByOwnerIdAndBookingIdIn(owner.getId(), List.of(1, 2, 3));
+        verify(bookingRepository).updateStatusByIdIn(List.of(1), BookingState.APPROVED);
+        verify(bookingCounterRepository).addToCount(item.getId(), BookingState.WAITING, -1);
+        verify(bookingCounterRepository).addToCount(item.getId(), BookingState.APPROVED, 1);
+    }
+
+    @Test
+    public void testUpdateBookingStatuses_RejectedBookingOverlapsWaitingBooking() {
+        booking.setStatus(BookingState.REJECTED);
+
+        Booking waiting = new Booking();
+        waiting.setId(5);
+        waiting.setStart(booking.getStart().plusHours(1));
+        waiting.setEnd(booking.getEnd().plusHours(1));
+        waiting.setItem(item);
+        waiting.setStatus(BookingState.WAITING);
+
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findAllByIdInAndItemOwnerId(List.of(1), owner.getId())).thenReturn(List.of(booking));
+        when(bookingRepository.findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(anyCollection(),
+                eq(List.of(BookingState.WAITING, BookingState.APPROVED)), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(List.of(waiting));
+
+        List<BookingBatchResultDto> results = bookingService.updateBookingStatuses(owner.getId(), List.of(1), true);
+
+        assertEquals(BookingState.REJECTED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getError());
+        verify(bookingRepository, never()).updateStatusByIdIn(anyCollection(), any(BookingState.class));
+    }
+
+    @Test
+    public void testUpdateBookingStatuses_RejectedBookingOverlapsWaitingBookingInBatch() {
+        Booking rejected = new Booking();
+        rejected.setId(2);
+        rejected.setStart(booking.getStart().plusHours(1));
+        rejected.setEnd(booking.getEnd().plusHours(1));
+        rejected.setItem(item);
+        rejected.setStatus(BookingState.REJECTED);
+
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findAllByIdInAndItemOwnerId(List.of(2, 1), owner.getId()))
+                .thenReturn(List.of(booking, rejected));
+
+        List<BookingBatchResultDto> results = bookingService.updateBookingStatuses(owner.getId(), List.of(2, 1), true);
+
+        assertNotNull(results.get(0).getError());
+        assertNull(results.get(1).getError());
+        verify(bookingRepository).updateStatusByIdIn(List.of(1), BookingState.APPROVED);
+    }
+
+    @Test
+    public void testUpdateBookingStatuses_RejectsOverlapsWithinBatch() {
+        Booking overlapping = new Booking();
+        overlapping.setId(2);
+        overlapping.setStart(booking.getStart().plusHours(1));
+        overlapping.setEnd(booking.getEnd().plusHours(1));
+        overlapping.setItem(item);
+        overlapping.setStatus(BookingState.WAITING);
+
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findAllByIdInAndItemOwnerId(List.of(1, 2), owner.getId()))
+                .thenReturn(List.of(booking, overlapping));
+
+        List<BookingBatchResultDto> results = bookingService.updateBookingStatuses(owner.getId(), List.of(1, 2), true);
+
+        assertNull(results.get(0).getError());
+        assertEquals(BookingState.WAITING, results.get(1).getStatus());
+        assertNotNull(results.get(1).getError());
+        verify(bookingRepository).updateStatusByIdIn(List.of(1), BookingState.APPROVED);
+    }
+
+    @Test
+    public void testUpdateBookingStatuses_UserNotFound() {
+        when(userRepository.existsById(anyInt())).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class,
+                () -> bookingService.updateBookingStatuses(owner.getId(), List.of(1), true));
+        verify(bookingRepository, never()).updateStatusByIdIn(anyCollection(), any(BookingState.class));
+    }
+
+    @Test
+    public void testGetBookingsSummary() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingCounterRepository.findAllByItemOwnerId(owner.getId())).thenReturn(List.of(
+                new BookingCounter(1, BookingState.WAITING, 2L),
+                new BookingCounter(1, BookingState.APPROVED, 3L),
+                new BookingCounter(2, BookingState.REJECTED, 1L)));
+        when(bookingRepository.countCurrentAndFutureByItemOwnerId(eq(owner.getId()), any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingTimeCountDto(1, 1L, 2L)));
+
+        BookingSummaryDto summary = bookingService.getBookingsSummary(owner.getId());
+
+        assertEquals(2, summary.getItems().size());
+        assertEquals(1, summary.getItems().get(0).getItemId());
+        assertEquals(3L, summary.getItems().get(0).getCounts().get("APPROVED"));
+        assertEquals(2L, summary.getItems().get(0).getCounts().get("FUTURE"));
+        assertEquals(0L, summary.getItems().get(1).getCounts().get("CURRENT"));
+        assertEquals(2L, summary.getTotal().get("WAITING"));
+        assertEquals(1L, summary.getTotal().get("REJECTED"));
+        assertEquals(1L, summary.getTotal().get("CURRENT"));
+    }
+
+    @Test
+    public void testGetBookingsSummary_UserNotFound() {
+        when(userRepository.existsById(anyInt())).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> bookingService.getBookingsSummary(owner.getId()));
     }
 
     @Test
     public void testGetBooking() {
         when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(booker));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
 
         Booking result = bookingService.getBooking(booker.getId(), booking.getId());
 
@@ -239,16 +449,16 @@ class BookingServiceTest {
     @Test
     public void testGetBooking_UserNotFound() {
         when(bookingRepository.findById(anyInt())).thenReturn(Optional.of(booking));
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> bookingService.getBooking(booker.getId(), booking.getId()));
     }
 
     @Test
     public void testGetBookingsSent() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(booker));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(bookingRepository.findBookingsByBooker_Id(anyInt(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.singletonList(booking)));
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
         doNothing().when(paginationValidator).validateSearchParameters(anyInt(), anyInt());
 
         List<Booking> result = bookingService.getBookingsSent(booker.getId(), "ALL", 0, 10);
@@ -259,7 +469,7 @@ class BookingServiceTest {
 
     @Test
     public void testGetBookingsSent_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
         doNothing().when(paginationValidator).validateSearchParameters(anyInt(), anyInt());
 
         assertThrows(EntityNotFoundException.class,
@@ -268,9 +478,9 @@ class BookingServiceTest {
 
     @Test
     public void testGetBookingsReceived() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(owner));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(bookingRepository.findBookingsByItem_Owner_Id(anyInt(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.singletonList(booking)));
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
         doNothing().when(paginationValidator).validateSearchParameters(anyInt(), anyInt());
 
         List<Booking> result = bookingService.getBookingsReceived(owner.getId(), "ALL", 0, 10);
@@ -281,7 +491,7 @@ class BookingServiceTest {
 
     @Test
     public void testGetBookingsReceived_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
         doNothing().when(paginationValidator).validateSearchParameters(anyInt(), anyInt());
 
         assertThrows(EntityNotFoundException.class,
@@ -289,109 +499,140 @@ class BookingServiceTest {
     }
 
     @Test
-    public void testFilterCurrentBookings_BookingIsCurrent() {
-        Booking booking = new Booking();
-        booking.setStart(LocalDateTime.now().minusHours(1));
-        booking.setEnd(LocalDateTime.now().plusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsSent_Current() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByBooker_IdAndStartBeforeAndEndAfter(anyInt(),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
 
-        bookingService.filterCurrentBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsSent(booker.getId(), "CURRENT", 0, 10);
 
-        assertEquals(1, filteredBookings.size());
-        assertEquals(BookingTimeState.CURRENT, filteredBookings.get(0).getBookingTimeState());
+        assertEquals(1, result.size());
+        assertEquals(BookingTimeState.CURRENT, result.get(0).getBookingTimeState());
+        verify(bookingRepository, never()).findBookingsByBooker_Id(anyInt(), any(Pageable.class));
     }
 
     @Test
-    public void testFilterCurrentBookings_BookingIsPast() {
-        Booking booking = new Booking();
-        booking.setStart(LocalDateTime.now().minusHours(2));
-        booking.setEnd(LocalDateTime.now().minusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsSent_LowerCaseState() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByBooker_IdAndStartBeforeAndEndAfter(anyInt(),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
 
-        bookingService.filterCurrentBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsSent(booker.getId(), "current", 0, 10);
 
-        assertEquals(0, filteredBookings.size());
+        assertEquals(1, result.size());
+        assertEquals(BookingTimeState.CURRENT, result.get(0).getBookingTimeState());
     }
 
     @Test
-    public void testFilterCurrentBookings_BookingIsFuture() {
-        Booking booking = new Booking();
-        booking.setStart(LocalDateTime.now().plusHours(1));
-        booking.setEnd(LocalDateTime.now().plusHours(2));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsReceivedAfter_LowerCaseState() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByOwnerAndStatusAfter(anyInt(), eq(BookingState.WAITING),
+                any(LocalDateTime.class), anyInt(), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(booking));
 
-        bookingService.filterCurrentBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsReceivedAfter(owner.getId(), "waiting", null, 10);
 
-        assertEquals(0, filteredBookings.size());
+        assertEquals(1, result.size());
     }
 
     @Test
-    public void testFilterPastBookings_BookingIsPast() {
-        Booking booking = new Booking();
-        booking.setEnd(LocalDateTime.now().minusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsSent_Past() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByBooker_IdAndEndBefore(anyInt(), any(LocalDateTime.class),
+                any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
 
-        bookingService.filterPastBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsSent(booker.getId(), "PAST", 0, 10);
 
-        assertEquals(1, filteredBookings.size());
-        assertEquals(BookingTimeState.PAST, filteredBookings.get(0).getBookingTimeState());
+        assertEquals(1, result.size());
+        assertEquals(BookingTimeState.PAST, result.get(0).getBookingTimeState());
     }
 
     @Test
-    public void testFilterPastBookings_BookingIsCurrent() {
-        Booking booking = new Booking();
-        booking.setEnd(LocalDateTime.now().plusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsSent_Future() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByBooker_IdAndStartAfter(anyInt(), any(LocalDateTime.class),
+                any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
 
-        bookingService.filterPastBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsSent(booker.getId(), "FUTURE", 0, 10);
 
-        assertEquals(0, filteredBookings.size());
+        assertEquals(1, result.size());
+        assertEquals(BookingTimeState.FUTURE, result.get(0).getBookingTimeState());
     }
 
     @Test
-    public void testFilterPastBookings_BookingIsFuture() {
-        Booking booking = new Booking();
-        booking.setEnd(LocalDateTime.now().plusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsSent_Waiting() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByBooker_IdAndStatus(anyInt(), eq(BookingState.WAITING),
+                any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
 
-        bookingService.filterPastBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsSent(booker.getId(), "WAITING", 0, 10);
 
-        assertEquals(0, filteredBookings.size());
+        assertEquals(1, result.size());
+        assertEquals(booking, result.get(0));
     }
 
     @Test
-    public void testFilterFutureBookings_BookingIsFuture() {
-        Booking booking = new Booking();
-        booking.setStart(LocalDateTime.now().plusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsSent_UnknownState() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
 
-        bookingService.filterFutureBookings(booking, LocalDateTime.now(), filteredBookings);
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.getBookingsSent(booker.getId(), "UNSUPPORTED_STATUS", 0, 10));
+    }
 
-        assertEquals(1, filteredBookings.size());
-        assertEquals(BookingTimeState.FUTURE, filteredBookings.get(0).getBookingTimeState());
+    @Test
+    public void testGetBookingsReceived_Current() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByItem_Owner_IdAndStartBeforeAndEndAfter(anyInt(),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
+
+        List<Booking> result = bookingService.getBookingsReceived(owner.getId(), "CURRENT", 0, 10);
+
+        assertEquals(1, result.size());
+        assertEquals(BookingTimeState.CURRENT, result.get(0).getBookingTimeState());
+    }
+
+    @Test
+    public void testGetBookingsReceived_Past() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByItem_Owner_IdAndEndBefore(anyInt(), any(LocalDateTime.class),
+                any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
+
+        List<Booking> result = bookingService.getBookingsReceived(owner.getId(), "PAST", 0, 10);
+
+        assertEquals(1, result.size());
+        assertEquals(BookingTimeState.PAST, result.get(0).getBookingTimeState());
     }
 
     @Test
-    public void testFilterFutureBookings_BookingIsPast() {
-        Booking booking = new Booking();
-        booking.setStart(LocalDateTime.now().minusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsReceived_Future() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByItem_Owner_IdAndStartAfter(anyInt(), any(LocalDateTime.class),
+                any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(booking)));
 
-        bookingService.filterFutureBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsReceived(owner.getId(), "FUTURE", 0, 10);
 
-        assertEquals(0, filteredBookings.size());
+        assertEquals(1, result.size());
+        assertEquals(BookingTimeState.FUTURE, result.get(0).getBookingTimeState());
     }
 
     @Test
-    public void testFilterFutureBookings_BookingIsCurrent() {
-        Booking booking = new Booking();
-        booking.setStart(LocalDateTime.now().minusHours(1));
-        booking.setEnd(LocalDateTime.now().plusHours(1));
-        List<Booking> filteredBookings = new ArrayList<>();
+    public void testGetBookingsReceived_Rejected() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
+        when(bookingRepository.findBookingsByItem_Owner_IdAndStatus(anyInt(), eq(BookingState.REJECTED),
+                any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
-        bookingService.filterFutureBookings(booking, LocalDateTime.now(), filteredBookings);
+        List<Booking> result = bookingService.getBookingsReceived(owner.getId(), "REJECTED", 0, 10);
 
-        assertEquals(0, filteredBookings.size());
+        assertTrue(result.isEmpty());
     }
 
     @Test
@@ -0,0 +1,150 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.JpaUserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = "spring.datasource.username=shareit",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class EntityCacheIntegrationTest {
+
+    private final CacheManager cacheManager;
+
+    private final MeterRegistry meterRegistry;
+
+    private final JpaUserRepository userRepository;
+
+    private final JpaItemRepository itemRepository;
+
+    private final UserService userService;
+
+    private final ItemService itemService;
+
+    private final List<User> users = new ArrayList<>();
+
+    private final List<Item> items = new ArrayList<>();
+
+    @AfterEach
+    public void removeUsersAndItems() {
+        items.forEach(item -> itemRepository.deleteById(item.getId()));
+        users.stream()
+                .filter(user -> userRepository.existsById(user.getId()))
+                .forEach(user -> userRepository.deleteById(user.getId()));
+        items.clear();
+        users.clear();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+
+    @Test
+    void findById_UserIsCachedAndEvictedOnUpdate() {
+        User user = addUser("cached user", "cached@email.com");
+
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+
+        assertNotNull(cacheManager.getCache(CacheConfig.USERS).get(user.getId()));
+        assertTrue(meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.USERS)
+                .tag("result", "hit")
+                .functionCounter()
+                .count() >= 1);
+
+        userService.update(user.getId(), new User(null, "new name", null));
+
+        assertNull(cacheManager.getCache(CacheConfig.USERS).get(user.getId()));
+        assertEquals("new name", userRepository.findById(user.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void findById_MissingUserIsNotCached() {
+        userRepository.findById(Integer.MAX_VALUE);
+
+        assertNull(cacheManager.getCache(CacheConfig.USERS).get(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void findById_ItemIsCachedAndEvictedOnUpdate() {
+        User owner = addUser("owner", "cached-owner@email.com");
+        Item item = addItem("cached item", "cached item description", owner);
+
+        itemRepository.findById(item.getId());
+        assertNotNull(cacheManager.getCache(CacheConfig.ITEMS).get(item.getId()));
+
+        itemService.update(owner.getId(), item.getId(), ItemDto.builder().available(false).build());
+
+        assertNull(cacheManager.getCache(CacheConfig.ITEMS).get(item.getId()));
+        assertEquals(false, itemRepository.findById(item.getId()).orElseThrow().getAvailable());
+    }
+
+    @Test
+    void update_FailedItemUpdateLeavesCachedItemUnchanged() {
+        User owner = addUser("owner", "failed-update-owner@email.com");
+        addItem("cached item", "cached item description", owner);
+        Item item = addItem("other item", "cached item description", owner);
+
+        itemRepository.findById(item.getId());
+
+        assertThrows(DataIntegrityViolationException.class, () -> itemService.update(owner.getId(), item.getId(),
+                ItemDto.builder().name("cached item").build()));
+
+        Cache.ValueWrapper cached = cacheManager.getCache(CacheConfig.ITEMS).get(item.getId());
+        assertNotNull(cached);
+        assertEquals("other item", ((Item) cached.get()).getName());
+        assertEquals("other item", itemRepository.findById(item.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void deleteById_EvictsUserAndItems() {
+        User owner = addUser("owner", "deleted-owner@email.com");
+        Item item = new Item(null, "deleted item", "deleted item description", true, owner, null);
+        itemRepository.save(item);
+
+        userRepository.findById(owner.getId());
+        itemRepository.findById(item.getId());
+
+        userService.deleteById(owner.getId());
+
+        assertNull(cacheManager.getCache(CacheConfig.USERS).get(owner.getId()));
+        assertNull(cacheManager.getCache(CacheConfig.ITEMS).get(item.getId()));
+    }
+
+
+    private User addUser(String name, String email) {
+        User user = userRepository.save(new User(null, name, email));
+        users.add(user);
+        return user;
+    }
+
+    private Item addItem(String name, String description, User owner) {
+        Item item = itemRepository.save(new Item(null, name, description, true, owner, null));
+        items.add(item);
+        return item;
+    }
+
+}
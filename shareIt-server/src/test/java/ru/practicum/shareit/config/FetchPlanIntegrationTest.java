@@ -0,0 +1,142 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingTimeState;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.JpaUserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = {
+                "spring.datasource.username=shareit",
+                "spring.jpa.properties.hibernate.generate_statistics=true"
+        },
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class FetchPlanIntegrationTest {
+
+    private static final int ITEMS_COUNT = 3;
+
+    private final EntityManager em;
+
+    private final EntityManagerFactory emf;
+
+    private final JpaUserRepository userRepository;
+
+    private final BookingService bookingService;
+
+    private final ItemService itemService;
+
+    private User owner;
+
+    private User booker;
+
+
+    @BeforeEach
+    void setUp() {
+        owner = new User(null, "fetch owner", "fetch-owner@email.com");
+        em.persist(owner);
+        booker = new User(null, "fetch booker", "fetch-booker@email.com");
+        em.persist(booker);
+
+        for (int i = 0; i < ITEMS_COUNT; i++) {
+            User itemOwner = i == 0 ? owner : new User(null, "owner " + i, "fetch-owner-" + i + "@email.com");
+            em.persist(itemOwner);
+
+            Item item = new Item(null, "fetch item " + i, "fetch plan item", true, itemOwner, null);
+            em.persist(item);
+
+            User itemBooker = new User(null, "booker " + i, "fetch-booker-" + i + "@email.com");
+            em.persist(itemBooker);
+
+            em.persist(new Booking(null, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1),
+                    item, booker, BookingState.APPROVED, BookingTimeState.PAST));
+            em.persist(new Booking(null, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                    item, itemBooker, BookingState.APPROVED, BookingTimeState.FUTURE));
+            em.persist(new Comment(null, "comment " + i, item, itemBooker, LocalDateTime.now()));
+        }
+
+        em.flush();
+        em.clear();
+
+        userRepository.existsById(owner.getId());
+        userRepository.existsById(booker.getId());
+        statistics().clear();
+    }
+
+    @Test
+    void getBookingsSent_LoadsItemsOwnersAndBookersInOneStatement() {
+        List<Booking> bookings = bookingService.getBookingsSent(booker.getId(), "ALL", 0, 10);
+
+        assertEquals(ITEMS_COUNT, bookings.size());
+        bookings.forEach(booking -> {
+            assertNotNull(booking.getItem().getOwner().getName());
+            assertNotNull(booking.getBooker().getName());
+        });
+        assertEquals(1, statistics().getPrepareStatementCount());
+    }
+
+    @Test
+    void getBookingsSent_FullPageDoesNotIssueCountQuery() {
+        List<Booking> bookings = bookingService.getBookingsSent(booker.getId(), "ALL", 0, ITEMS_COUNT - 1);
+
+        assertEquals(ITEMS_COUNT - 1, bookings.size());
+        assertEquals(1, statistics().getPrepareStatementCount());
+    }
+
+    @Test
+    void getItems_LoadsBookingsAndCommentsWithoutPerItemQueries() {
+        Item secondItem = new Item(null, "second fetch item", "fetch plan item", true,
+                em.find(User.class, owner.getId()), null);
+        em.persist(secondItem);
+        em.flush();
+        em.clear();
+        statistics().clear();
+
+        List<ItemDtoOut> items = itemService.getItems(owner.getId(), 0, 10);
+
+        assertEquals(2, items.size());
+        assertNotNull(items.get(0).getNextBooking());
+        assertEquals(1, items.get(0).getComments().size());
+        assertEquals(1L, items.get(0).getCommentsCount());
+        assertEquals(6, statistics().getPrepareStatementCount());
+    }
+
+    @Test
+    void search_LoadsOwnersInOneStatement() {
+        List<Item> items = itemService.search("fetch plan", 0, 10);
+
+        assertEquals(ITEMS_COUNT, items.size());
+        items.forEach(item -> assertNotNull(item.getOwner().getName()));
+        assertEquals(1, statistics().getPrepareStatementCount());
+    }
+
+
+    private Statistics statistics() {
+        return emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+}
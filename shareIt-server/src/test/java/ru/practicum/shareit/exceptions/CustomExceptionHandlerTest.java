@@ -1,9 +1,14 @@
 package ru.practicum.shareit.exceptions;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public class CustomExceptionHandlerTest {
@@ -32,6 +37,59 @@ public class CustomExceptionHandlerTest {
         assertEquals(HttpStatus.CONFLICT, response.getStatus());
     }
 
+    @Test
+    void handleDataIntegrityViolationException_UniqueItemShouldReturnConflictErrorResponse() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"ux_items_name_description\""));
+        ResponseEntity<ErrorResponse> response = customExceptionHandler.handleDataIntegrityViolationException(exception);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, response.getBody().getStatus());
+    }
+
+    @Test
+    void handleDataIntegrityViolationException_UniqueEmailShouldReturnConflictErrorResponse() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UQ_USER_EMAIL_INDEX_4 ON PUBLIC.USERS(EMAIL)\""));
+        ResponseEntity<ErrorResponse> response = customExceptionHandler.handleDataIntegrityViolationException(exception);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void handleDataIntegrityViolationException_BookingOverlapShouldReturnConflictErrorResponse() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("conflicting key value violates exclusion constraint \"excl_bookings_item_period\""));
+        ResponseEntity<ErrorResponse> response = customExceptionHandler.handleDataIntegrityViolationException(exception);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void handleDataIntegrityViolationException_MissingUserShouldReturnNotFoundErrorResponse() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: insert or update on table \"items\" violates foreign key constraint" +
+                        " \"items_owner_id_fkey\"\n  Detail: Key (owner_id)=(5) is not present in table \"users\"."));
+        ResponseEntity<ErrorResponse> response = customExceptionHandler.handleDataIntegrityViolationException(exception);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertTrue(response.getBody().getError().contains("'5'"));
+    }
+
+    @Test
+    void handleDataIntegrityViolationException_MissingBookerShouldReturnNotFoundErrorResponse() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Referential integrity constraint violation: \"CONSTRAINT_5F: PUBLIC.BOOKINGS" +
+                        " FOREIGN KEY(BOOKER_ID) REFERENCES PUBLIC.USERS(ID) (7)\""));
+        ResponseEntity<ErrorResponse> response = customExceptionHandler.handleDataIntegrityViolationException(exception);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertTrue(response.getBody().getError().contains("'7'"));
+    }
+
+    @Test
+    void handleDataIntegrityViolationException_OtherConstraintShouldReturnInternalServerErrorResponse() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("null value in column \"name\" of relation \"items\" violates not-null constraint"));
+        ResponseEntity<ErrorResponse> response = customExceptionHandler.handleDataIntegrityViolationException(exception);
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
     @Test
     void handleThrowable_ShouldReturnInternalServerErrorErrorResponse() {
         Throwable throwable = mock(Throwable.class);
@@ -8,10 +8,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemBatchDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.paginationvalidation.PageCursor;
 import ru.practicum.shareit.user.model.User;
 
 import java.nio.charset.StandardCharsets;
@@ -22,11 +26,14 @@ import java.util.List;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -82,6 +89,55 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.available", is(item.getAvailable())));
     }
 
+    @SneakyThrows
+    @Test
+    void addAll() {
+        when(itemService.addAll(anyInt(), anyList())).thenReturn(List.of(item));
+
+        mockMvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .content(objectMapper.writeValueAsString(new ItemBatchDto(List.of(itemDto))))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(item.getId()), Integer.class))
+                .andExpect(jsonPath("$[0].name", is(item.getName())));
+    }
+
+    @SneakyThrows
+    @Test
+    void addAll_InvalidItem() {
+        ItemDto invalidItemDto = ItemDto.builder()
+                .name("")
+                .description("item description")
+                .available(true)
+                .build();
+
+        mockMvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .content(objectMapper.writeValueAsString(new ItemBatchDto(List.of(invalidItemDto))))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isBadRequest());
+    }
+
+    @SneakyThrows
+    @Test
+    void addAll_EmptyBatch() {
+        mockMvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .content(objectMapper.writeValueAsString(new ItemBatchDto(Collections.emptyList())))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isBadRequest());
+    }
+
     @SneakyThrows
     @Test
     void update() {
@@ -140,7 +196,7 @@ class ItemControllerIntegrationTest {
     @Test
     void search() {
         List<Item> items = Collections.singletonList(item);
-        when(itemService.search(anyString())).thenReturn(items);
+        when(itemService.search(anyString(), anyInt(), anyInt())).thenReturn(items);
 
         mockMvc.perform(get("/items/search")
                         .param("text", "item name")
@@ -179,4 +235,69 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.created").exists());
     }
 
-}
\ No newline at end of file
+    @SneakyThrows
+    @Test
+    void getAvailability() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 10, 0, 0);
+        ItemAvailabilityDto availability = new ItemAvailabilityDto(item.getId(), from, to,
+                List.of(new ItemAvailabilityDto.FreeSlot(from, LocalDateTime.of(2030, 1, 3, 0, 0))));
+
+        when(itemService.getAvailability(eq(item.getId()), eq(from), eq(to))).thenReturn(availability);
+
+        mockMvc.perform(get("/items/{itemId}/availability", item.getId())
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-10T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId", is(item.getId()), Integer.class))
+                .andExpect(jsonPath("$.freeSlots.length()", is(1)))
+                .andExpect(jsonPath("$.freeSlots[0].start", is("2030-01-01T00:00:00")))
+                .andExpect(jsonPath("$.freeSlots[0].end", is("2030-01-03T00:00:00")));
+    }
+
+    @SneakyThrows
+    @Test
+    void getComments() {
+        LocalDateTime created = LocalDateTime.of(2030, 1, 1, 0, 0);
+        List<CommentDtoOut> comments = List.of(
+                new CommentDtoOut(2, "second", "username", created, 1),
+                new CommentDtoOut(1, "first", "username", created, 1));
+
+        when(itemService.getComments(eq(1), any(), eq(2))).thenReturn(comments);
+
+        mockMvc.perform(get("/items/{itemId}/comments", 1)
+                        .param("size", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER, PageCursor.of(created, 1).encode()))
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].id", is(2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void getAvailability_Batch() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 10, 0, 0);
+        List<ItemAvailabilityDto> availability = List.of(
+                new ItemAvailabilityDto(1, from, to, List.of(new ItemAvailabilityDto.FreeSlot(from, to))),
+                new ItemAvailabilityDto(2, from, to, Collections.emptyList()));
+
+        when(itemService.getAvailability(anyList(), eq(from), eq(to))).thenReturn(availability);
+
+        mockMvc.perform(get("/items/availability")
+                        .param("itemIds", "1,2")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-10T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].itemId", is(1)))
+                .andExpect(jsonPath("$[1].freeSlots.length()", is(0)));
+    }
+
+}
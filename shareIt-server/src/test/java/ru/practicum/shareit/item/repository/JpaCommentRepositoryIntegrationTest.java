@@ -5,6 +5,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.dto.CommentCountDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.user.repository.JpaUserRepository;
 import ru.practicum.shareit.item.model.Item;
@@ -13,6 +15,8 @@ import ru.practicum.shareit.user.model.User;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -96,15 +100,40 @@ class JpaCommentRepositoryIntegrationTest {
 
 
     @Test
-    void findAllByItemId() {
-        List<Comment> comments = commentRepository.findAllByItemId(item1.getId());
-        assertEquals(2, comments.size());
+    void findAllByItemIdAfter() {
+        List<Comment> latest = commentRepository.findAllByItemIdOrderByCreatedDescIdDesc(item1.getId(),
+                PageRequest.of(0, 10));
+
+        List<Comment> firstPage = commentRepository.findAllByItemIdAfter(item1.getId(),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE, PageRequest.of(0, 1));
+        List<Comment> secondPage = commentRepository.findAllByItemIdAfter(item1.getId(),
+                firstPage.get(0).getCreated(), firstPage.get(0).getId(), PageRequest.of(0, 1));
+
+        assertEquals(2, latest.size());
+        assertEquals(latest.get(0).getId(), firstPage.get(0).getId());
+        assertEquals(latest.get(1).getId(), secondPage.get(0).getId());
     }
 
     @Test
-    void findAllByItemIdIn() {
-        List<Comment> comments = commentRepository.findAllByItemIdIn(Arrays.asList(item1.getId(), item2.getId()));
-        assertEquals(3, comments.size());
+    void findLatestIdsByItemIdIn() {
+        List<Integer> ids = commentRepository.findLatestIdsByItemIdIn(Arrays.asList(item1.getId(), item2.getId()), 1);
+
+        assertEquals(2, ids.size());
+        assertEquals(2, commentRepository.findAllByIdIn(ids).stream()
+                .map(comment -> comment.getItem().getId())
+                .distinct()
+                .count());
+    }
+
+    @Test
+    void countByItemIdIn() {
+        Map<Integer, Long> counts = commentRepository.countByItemIdIn(Arrays.asList(item1.getId(), item2.getId()))
+                .stream()
+                .collect(Collectors.toMap(CommentCountDto::getItemId, CommentCountDto::getCount));
+
+        assertEquals(2L, counts.get(item1.getId()));
+        assertEquals(1L, counts.get(item2.getId()));
+        assertEquals(2L, commentRepository.countByItemId(item1.getId()));
     }
 
 }
\ No newline at end of file
@@ -15,7 +15,6 @@ import ru.practicum.shareit.user.repository.JpaUserRepository;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -94,16 +93,38 @@ class JpaItemRepositoryIntegrationTest {
 
 
     @Test
-    void findByNameAndDescription() {
-        Optional<Item> foundItem = itemRepository.findByNameAndDescription(item1.getName(), item1.getDescription());
-        assertTrue(foundItem.isPresent());
-        assertEquals(item1.getId(), foundItem.get().getId());
+    void searchByNameAndDescription() {
+        List<Item> items = itemRepository.searchByNameAndDescription("item", PageRequest.of(0, 10));
+        assertEquals(2, items.size());
     }
 
     @Test
-    void searchByNameAndDescription() {
-        List<Item> items = itemRepository.searchByNameAndDescription("item");
+    void searchByNameAndDescription_NameMatchesRankFirst() {
+        Item descriptionMatch = itemRepository.save(Item.builder()
+                .name("drill")
+                .description("cordless screwdriver")
+                .available(true)
+                .owner(user1)
+                .build());
+
+        Item nameMatch = itemRepository.save(Item.builder()
+                .name("screwdriver")
+                .description("flat head")
+                .available(true)
+                .owner(user2)
+                .build());
+
+        List<Item> items = itemRepository.searchByNameAndDescription("screwdriver", PageRequest.of(0, 10));
+
         assertEquals(2, items.size());
+        assertEquals(nameMatch.getId(), items.get(0).getId());
+        assertEquals(descriptionMatch.getId(), items.get(1).getId());
+    }
+
+    @Test
+    void searchByNameAndDescription_Paged() {
+        List<Item> items = itemRepository.searchByNameAndDescription("item", PageRequest.of(1, 1));
+        assertEquals(1, items.size());
     }
 
     @Test
@@ -119,4 +140,11 @@ class JpaItemRepositoryIntegrationTest {
         assertEquals(item1.getId(), items.get(0).getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    void findTop1000ByIdGreaterThanOrderByIdAsc() {
+        List<Item> items = itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(item1.getId());
+        assertEquals(1, items.size());
+        assertTrue(items.get(0).getId() > item1.getId());
+    }
+
+}
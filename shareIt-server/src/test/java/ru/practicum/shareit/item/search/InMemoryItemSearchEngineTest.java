@@ -0,0 +1,111 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemSearchDocumentDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryItemSearchEngineTest {
+
+    @Mock
+    private JpaItemRepository itemRepository;
+
+    private InMemoryItemSearchEngine searchEngine;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+
+    @BeforeEach
+    public void setUp() {
+        searchEngine = new InMemoryItemSearchEngine(itemRepository, new SimpleMeterRegistry(), Long.MAX_VALUE);
+    }
+
+
+    @Test
+    void search_UsesDatabaseUntilRebuilt() {
+        when(itemRepository.searchByNameAndDescription("дрель", pageable)).thenReturn(List.of(item(1, "Дрель")));
+
+        assertEquals(1, searchEngine.search("дрель", pageable).size());
+    }
+
+    @Test
+    void rebuild_LoadsItemsInBatches() {
+        when(itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0)).thenReturn(List.of(item(1, "Дрель")));
+        when(itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(1)).thenReturn(Collections.emptyList());
+        when(itemRepository.findAllByIdIn(List.of(1))).thenReturn(List.of(item(1, "Дрель")));
+
+        searchEngine.rebuild();
+
+        assertEquals(1, searchEngine.search("дрель", pageable).size());
+        verify(itemRepository, never()).searchByNameAndDescription("дрель", pageable);
+    }
+
+    @Test
+    void index_IndexesCommittedStateInsteadOfPassedItem() {
+        when(itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0)).thenReturn(Collections.emptyList());
+        when(itemRepository.findSearchDocumentsByIdIn(List.of(1)))
+                .thenReturn(List.of(new ItemSearchDocumentDto(1, "Пила", "", true)));
+        when(itemRepository.findAllByIdIn(List.of(1))).thenReturn(List.of(item(1, "Пила")));
+        searchEngine.rebuild();
+
+        searchEngine.index(item(1, "Дрель"));
+
+        assertTrue(searchEngine.search("дрель", pageable).isEmpty());
+        assertEquals(1, searchEngine.search("пила", pageable).size());
+    }
+
+    @Test
+    void index_RemovesItemMissingFromDatabase() {
+        when(itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0)).thenReturn(List.of(item(1, "Дрель")));
+        when(itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(1)).thenReturn(Collections.emptyList());
+        when(itemRepository.findSearchDocumentsByIdIn(List.of(1))).thenReturn(Collections.emptyList());
+        searchEngine.rebuild();
+
+        searchEngine.index(item(1, "Дрель"));
+
+        assertTrue(searchEngine.search("дрель", pageable).isEmpty());
+        verify(itemRepository, never()).findAllByIdIn(anyList());
+    }
+
+    @Test
+    void put_FallsBackToDatabaseAfterOverflow() {
+        searchEngine = new InMemoryItemSearchEngine(itemRepository, new SimpleMeterRegistry(), 16);
+        when(itemRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0)).thenReturn(List.of(item(1, "Дрель")));
+        when(itemRepository.searchByNameAndDescription("дрель", pageable)).thenReturn(List.of(item(1, "Дрель")));
+
+        searchEngine.rebuild();
+
+        assertEquals(1, searchEngine.search("дрель", pageable).size());
+        verify(itemRepository).searchByNameAndDescription("дрель", pageable);
+    }
+
+
+    private Item item(Integer id, String name) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription("");
+        item.setAvailable(true);
+        return item;
+    }
+
+}
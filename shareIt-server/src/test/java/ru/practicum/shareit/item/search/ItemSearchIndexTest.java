@@ -0,0 +1,137 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new ItemSearchIndex();
+        index.put(1, "Дрель", "Простая дрель", true);
+        index.put(2, "Отвертка", "Аккумуляторная отвертка", true);
+        index.put(3, "Клей", "Клей Момент, не дрель", true);
+        index.put(4, "Дрель ударная", "Сломана", false);
+    }
+
+
+    @Test
+    void search_MatchesSubstringIgnoringCase() {
+        assertArrayEquals(new int[]{1, 3}, index.search("дРеЛь"));
+        assertArrayEquals(new int[]{2}, index.search("кумуля"));
+    }
+
+    @Test
+    void search_ShortQuery() {
+        assertArrayEquals(new int[]{1, 3}, index.search("др"));
+        assertArrayEquals(new int[]{2, 1, 3}, index.search("т"));
+    }
+
+    @Test
+    void search_ShortQueryMatchesTextShorterThanTrigram() {
+        index.put(5, "Ус", "", true);
+
+        assertArrayEquals(new int[]{5}, index.search("ус"));
+        assertArrayEquals(new int[]{5, 2}, index.search("у"));
+    }
+
+    @Test
+    void search_NameMatchesRankFirst() {
+        index.put(5, "Набор", "дрель и сверла", true);
+        index.put(6, "Дрель-шуруповерт", "Bosch", true);
+
+        assertArrayEquals(new int[]{1, 6, 3, 5}, index.search("дрель"));
+    }
+
+    @Test
+    void search_SkipsUnavailableItems() {
+        assertArrayEquals(new int[]{1, 3}, index.search("дрель"));
+
+        index.put(4, "Дрель ударная", "Починена", true);
+
+        assertArrayEquals(new int[]{1, 4, 3}, index.search("дрель"));
+    }
+
+    @Test
+    void search_NoMatch() {
+        assertEquals(0, index.search("перфоратор").length);
+        assertEquals(0, index.search("").length);
+        assertEquals(0, index.search(null).length);
+    }
+
+    @Test
+    void put_ReplacesPreviousText() {
+        index.put(1, "Пила", "Ножовка", true);
+
+        assertArrayEquals(new int[]{3}, index.search("дрель"));
+        assertArrayEquals(new int[]{1}, index.search("ножов"));
+    }
+
+    @Test
+    void remove() {
+        index.remove(3);
+        index.remove(42);
+
+        assertArrayEquals(new int[]{1}, index.search("дрель"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void estimatedBytes() {
+        assertTrue(index.gramCount() > 0);
+        assertTrue(index.estimatedBytes() > 0);
+    }
+
+    @Test
+    void gramCount_IndexesTrigramsOnly() {
+        ItemSearchIndex single = new ItemSearchIndex();
+        single.put(1, "Дрель", "", true);
+
+        assertEquals(3, single.gramCount());
+    }
+
+    @Test
+    void estimatedBytes_TracksPutAndRemove() {
+        ItemSearchIndex empty = new ItemSearchIndex();
+        empty.put(1, "Дрель", "Простая дрель", true);
+        long bytes = empty.estimatedBytes();
+
+        empty.put(1, "Дрель", "Простая дрель", false);
+        assertEquals(bytes, empty.estimatedBytes());
+
+        empty.remove(1);
+        assertEquals(0, empty.estimatedBytes());
+        assertEquals(0, empty.gramCount());
+    }
+
+    @Test
+    void put_RejectsDocumentOverMemoryLimit() {
+        ItemSearchIndex limited = new ItemSearchIndex(200);
+
+        assertTrue(limited.put(1, "Дрель", "", true));
+        assertFalse(limited.put(2, "Отвертка", "Аккумуляторная отвертка", true));
+
+        assertEquals(1, limited.size());
+        assertTrue(limited.estimatedBytes() <= 200);
+        assertArrayEquals(new int[]{1}, limited.search("дрель"));
+        assertEquals(0, limited.search("отвертка").length);
+    }
+
+    @Test
+    void clear() {
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.gramCount());
+        assertEquals(0, index.estimatedBytes());
+    }
+
+}
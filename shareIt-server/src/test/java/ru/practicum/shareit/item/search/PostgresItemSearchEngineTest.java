@@ -0,0 +1,74 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+@ExtendWith(MockitoExtension.class)
+class PostgresItemSearchEngineTest {
+
+    @Mock
+    private JpaItemRepository itemRepository;
+
+    @InjectMocks
+    private PostgresItemSearchEngine searchEngine;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+
+    @Test
+    void search_KeepsRankingOrderOfIds() {
+        when(itemRepository.searchIdsByTrigramSimilarity("дрель", pageable)).thenReturn(List.of(3, 1, 2));
+        when(itemRepository.findAllByIdIn(List.of(3, 1, 2))).thenReturn(List.of(item(1), item(2), item(3)));
+
+        List<Item> items = searchEngine.search("дрель", pageable);
+
+        assertEquals(List.of(3, 1, 2), items.stream().map(Item::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void search_SkipsIdsThatWereNotLoaded() {
+        when(itemRepository.searchIdsByTrigramSimilarity("дрель", pageable)).thenReturn(List.of(3, 1));
+        when(itemRepository.findAllByIdIn(List.of(3, 1))).thenReturn(List.of(item(1)));
+
+        List<Item> items = searchEngine.search("дрель", pageable);
+
+        assertEquals(1, items.size());
+        assertEquals(1, items.get(0).getId());
+    }
+
+    @Test
+    void search_NoIds() {
+        when(itemRepository.searchIdsByTrigramSimilarity("перфоратор", pageable))
+                .thenReturn(Collections.emptyList());
+
+        assertTrue(searchEngine.search("перфоратор", pageable).isEmpty());
+        verify(itemRepository, never()).findAllByIdIn(anyList());
+    }
+
+
+    private Item item(Integer id) {
+        Item item = new Item();
+        item.setId(id);
+        return item;
+    }
+
+}
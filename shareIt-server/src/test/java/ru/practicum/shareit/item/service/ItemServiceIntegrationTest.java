@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingTimeState;
@@ -17,10 +18,12 @@ import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
@@ -59,6 +62,51 @@ class ItemServiceIntegrationTest {
         assertEquals(itemDto.getDescription(), foundItem.getDescription());
     }
 
+    @Test
+    void addAll() {
+        User owner = new User(null, "owner", "owner@email.com");
+        em.persist(owner);
+        em.flush();
+
+        List<ItemDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            itemDtos.add(ItemDto.builder()
+                    .name("batch item " + i)
+                    .description("batch item description")
+                    .available(true)
+                    .build());
+        }
+
+        List<Item> savedItems = service.addAll(owner.getId(), itemDtos);
+        em.flush();
+
+        Long count = em.createQuery("SELECT COUNT(i) FROM Item i WHERE i.owner.id = :ownerId", Long.class)
+                .setParameter("ownerId", owner.getId())
+                .getSingleResult();
+
+        assertEquals(itemDtos.size(), savedItems.size());
+        assertEquals(itemDtos.size(), count);
+        assertEquals(itemDtos.size(), savedItems.stream().map(Item::getId).distinct().count());
+        assertThrows(DataIntegrityViolationException.class,
+                () -> service.addAll(owner.getId(), itemDtos.subList(0, 1)));
+    }
+
+    @Test
+    void add_ItemAlreadyExists() {
+        User owner = new User(null, "owner", "owner@email.com");
+        em.persist(owner);
+        em.persist(new Item(null, "item name", "item description", true, owner, null));
+        em.flush();
+
+        ItemDto itemDto = ItemDto.builder()
+                .name("item name")
+                .description("item description")
+                .available(true)
+                .build();
+
+        assertThrows(DataIntegrityViolationException.class, () -> service.add(owner.getId(), itemDto));
+    }
+
     @Test
     void update() {
         User owner = new User(null, "owner", "owner@email.com");
@@ -104,6 +152,40 @@ class ItemServiceIntegrationTest {
         assertEquals(item.getDescription(), itemDtoOut.getDescription());
     }
 
+    @Test
+    void getItem_OwnerSeesClosestBookingsAndLatestComments() {
+        User owner = new User(null, "owner", "owner@email.com");
+        em.persist(owner);
+        User booker = new User(null, "booker", "booker@email.com");
+        em.persist(booker);
+        Item item = new Item(null, "item name", "item description",
+                true, owner, null);
+        em.persist(item);
+
+        LocalDateTime now = LocalDateTime.now();
+        Booking last = null;
+        for (int i = 30; i > 0; i--) {
+            last = new Booking(null, now.minusDays(i * 2L), now.minusDays(i * 2L - 1),
+                    item, booker, BookingState.APPROVED, BookingTimeState.ALL);
+            em.persist(last);
+            em.persist(new Comment(null, "comment " + i, item, booker, now.minusDays(i)));
+        }
+        Booking next = new Booking(null, now.plusDays(1), now.plusDays(2),
+                item, booker, BookingState.APPROVED, BookingTimeState.ALL);
+        em.persist(next);
+        em.persist(new Booking(null, now.plusDays(3), now.plusDays(4),
+                item, booker, BookingState.APPROVED, BookingTimeState.ALL));
+        em.flush();
+
+        ItemDtoOut itemDtoOut = service.getItem(owner.getId(), item.getId());
+
+        assertEquals(last.getId(), itemDtoOut.getLastBooking().getId());
+        assertEquals(next.getId(), itemDtoOut.getNextBooking().getId());
+        assertEquals(20, itemDtoOut.getComments().size());
+        assertEquals(30L, itemDtoOut.getCommentsCount());
+        assertEquals("comment 1", itemDtoOut.getComments().get(0).getText());
+    }
+
     @Test
     void getItems() {
         User owner = new User(null, "owner", "owner@email.com");
@@ -139,7 +221,7 @@ class ItemServiceIntegrationTest {
         em.persist(item2);
         em.flush();
 
-        List<Item> items = service.search("item");
+        List<Item> items = service.search("item", 0, 10);
 
         assertEquals(2, items.size());
         assertTrue(items.stream().anyMatch(item -> item.getName().equals(item1.getName())));
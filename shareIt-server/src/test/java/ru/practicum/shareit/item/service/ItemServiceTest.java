@@ -6,21 +6,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.repository.JpaBookingRepository;
 import ru.practicum.shareit.exceptions.AccessDeniedException;
 import ru.practicum.shareit.exceptions.BadRequestException;
-import ru.practicum.shareit.exceptions.EntityAlreadyExistsException;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.CommentDtoOut;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.JpaCommentRepository;
 import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.paginationvalidation.PaginationValidator;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.JpaUserRepository;
@@ -42,6 +45,8 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,10 +67,10 @@ class ItemServiceTest {
     private JpaCommentRepository commentRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private PaginationValidator paginationValidator;
 
     @Mock
-    private PaginationValidator paginationValidator;
+    private ItemSearchEngine itemSearchEngine;
 
     @InjectMocks
     private ItemServiceImpl itemService;
@@ -125,15 +130,14 @@ class ItemServiceTest {
     @Test
     void add_Success() {
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
-        when(itemRepository.findByNameAndDescription(anyString(), anyString())).thenReturn(Optional.empty());
-        when(modelMapper.map(any(ItemDto.class), eq(Item.class))).thenReturn(item);
-        when(itemRepository.save(any(Item.class))).thenReturn(item);
+        when(itemRepository.saveAndFlush(any(Item.class))).thenReturn(item);
 
         Item result = itemService.add(requestor.getId(), itemDto);
 
         assertNotNull(result);
         assertEquals(item.getId(), result.getId());
-        verify(itemRepository).save(any(Item.class));
+        verify(itemRepository).saveAndFlush(any(Item.class));
+        verify(itemSearchEngine).index(item);
     }
 
     @Test
@@ -146,17 +150,53 @@ class ItemServiceTest {
     @Test
     void add_ItemAlreadyExists() {
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
-        when(itemRepository.findByNameAndDescription(anyString(), anyString())).thenReturn(Optional.of(item));
-        when(modelMapper.map(any(ItemDto.class), eq(Item.class))).thenReturn(item);
+        when(itemRepository.saveAndFlush(any(Item.class))).thenThrow(DataIntegrityViolationException.class);
 
-        assertThrows(EntityAlreadyExistsException.class, () -> itemService.add(requestor.getId(), itemDto));
+        assertThrows(DataIntegrityViolationException.class, () -> itemService.add(requestor.getId(), itemDto));
+        verify(itemSearchEngine, never()).index(any(Item.class));
     }
 
     @Test
-    void update_Success() {
+    void addAll_Success() {
+        ItemDto otherItemDto = new ItemDto();
+        otherItemDto.setName("item name");
+        otherItemDto.setDescription("other description");
+        otherItemDto.setAvailable(false);
+        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(itemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Item> result = itemService.addAll(requestor.getId(), List.of(itemDto, otherItemDto));
+
+        assertEquals(2, result.size());
+        assertEquals(requestor, result.get(0).getOwner());
+        assertEquals("other description", result.get(1).getDescription());
+        verify(itemRepository).flush();
+        verify(itemSearchEngine, times(2)).index(any(Item.class));
+    }
+
+    @Test
+    void addAll_UserNotFound() {
+        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> itemService.addAll(requestor.getId(), List.of(itemDto)));
+    }
+
+    @Test
+    void addAll_ItemAlreadyExists() {
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(itemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(DataIntegrityViolationException.class).when(itemRepository).flush();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> itemService.addAll(requestor.getId(), List.of(itemDto, itemDto)));
+        verify(itemSearchEngine, never()).index(any(Item.class));
+    }
+
+    @Test
+    void update_Success() {
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(itemRepository.save(any(Item.class))).thenReturn(item);
+        when(itemRepository.save(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Item result = itemService.update(requestor.getId(), item.getId(), itemDto);
 
@@ -167,14 +207,14 @@ class ItemServiceTest {
 
     @Test
     void update_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> itemService.update(requestor.getId(), item.getId(), itemDto));
     }
 
     @Test
     void update_ItemNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(itemRepository.findById(anyInt())).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> itemService.update(requestor.getId(), item.getId(), itemDto));
@@ -186,7 +226,7 @@ class ItemServiceTest {
         anotherUser.setId(2);
         item.setOwner(anotherUser);
 
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
 
         assertThrows(AccessDeniedException.class, () -> itemService.update(requestor.getId(), item.getId(), itemDto));
@@ -196,15 +236,18 @@ class ItemServiceTest {
     void update_NameNotNull() {
         ItemDto itemDtoWithName = new ItemDto();
         itemDtoWithName.setName("New Name");
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(itemRepository.save(any(Item.class))).thenReturn(item);
+        when(itemRepository.save(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        String originalName = item.getName();
 
         Item result = itemService.update(requestor.getId(), item.getId(), itemDtoWithName);
 
         assertNotNull(result);
         assertEquals(item.getId(), result.getId());
         assertEquals(itemDtoWithName.getName(), result.getName());
+        assertEquals(originalName, item.getName());
         verify(itemRepository).save(any(Item.class));
     }
 
@@ -212,9 +255,9 @@ class ItemServiceTest {
     void update_DescriptionNotNull() {
         ItemDto itemDtoWithDescription = new ItemDto();
         itemDtoWithDescription.setDescription("New Description");
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(itemRepository.save(any(Item.class))).thenReturn(item);
+        when(itemRepository.save(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Item result = itemService.update(requestor.getId(), item.getId(), itemDtoWithDescription);
 
@@ -228,9 +271,9 @@ class ItemServiceTest {
     void update_AvailableNotNull() {
         ItemDto itemDtoWithAvailability = new ItemDto();
         itemDtoWithAvailability.setAvailable(false);
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(itemRepository.save(any(Item.class))).thenReturn(item);
+        when(itemRepository.save(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Item result = itemService.update(requestor.getId(), item.getId(), itemDtoWithAvailability);
 
@@ -244,8 +287,9 @@ class ItemServiceTest {
     @Test
     void getItem_Success() {
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(bookingRepository.findAllByItemAndStatusOrderByStartAsc(any(Item.class), eq(BookingState.APPROVED)))
-                .thenReturn(Collections.singletonList(booking));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDescIdDesc(anyInt(),
+                eq(BookingState.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(booking));
 
         ItemDtoOut itemDtoOut = new ItemDtoOut(item.getId(), item.getName(),
                 item.getDescription(), item.getAvailable());
@@ -267,8 +311,9 @@ class ItemServiceTest {
     @Test
     void getItem_NonOwnerViewingWithBookings() {
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(bookingRepository.findAllByItemAndStatusOrderByStartAsc(any(Item.class), eq(BookingState.APPROVED)))
-                .thenReturn(Collections.singletonList(booking));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDescIdDesc(anyInt(),
+                eq(BookingState.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(booking));
 
         ItemDtoOut result = itemService.getItem(requestor.getId(), item.getId());
 
@@ -281,8 +326,9 @@ class ItemServiceTest {
     @Test
     void getItem_NonOwnerViewingWithoutBookings() {
         when(itemRepository.findById(anyInt())).thenReturn(Optional.of(item));
-        when(bookingRepository.findAllByItemAndStatusOrderByStartAsc(any(Item.class), eq(BookingState.APPROVED)))
-                .thenReturn(Collections.emptyList());
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDescIdDesc(anyInt(),
+                eq(BookingState.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
 
         ItemDtoOut result = itemService.getItem(requestor.getId(), item.getId());
 
@@ -294,7 +340,7 @@ class ItemServiceTest {
 
     @Test
     void getItems_InvalidSearchParameters_FromAndSizeZero() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         doThrow(new BadRequestException(Item.class, "0", "Некорректные параметры пагинации"))
                 .when(paginationValidator).validateSearchParameters(eq(0), eq(0));
 
@@ -303,7 +349,7 @@ class ItemServiceTest {
 
     @Test
     void getItems_InvalidSearchParameters_FromNegative() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         doThrow(new BadRequestException(Item.class, "-1", "Некорректные параметры пагинации"))
                 .when(paginationValidator).validateSearchParameters(eq(-1), anyInt());
 
@@ -312,7 +358,7 @@ class ItemServiceTest {
 
     @Test
     void getItems_InvalidSearchParameters_SizeNegative() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         doThrow(new BadRequestException(Item.class, "-1", "Некорректные параметры пагинации"))
                 .when(paginationValidator).validateSearchParameters(anyInt(), eq(-1));
 
@@ -321,10 +367,10 @@ class ItemServiceTest {
 
     @Test
     void getItems_Success() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(itemRepository.findByOwnerId(anyInt(), any(Pageable.class))).thenReturn(Collections.singletonList(item));
-        when(commentRepository.findAllByItemIdIn(anyList())).thenReturn(Collections.emptyList());
-        when(bookingRepository.findAllByItemInAndStatusOrderByStartAsc(anyList(), any(BookingState.class)))
+        when(commentRepository.findLatestIdsByItemIdIn(anyList(), anyInt())).thenReturn(Collections.emptyList());
+        when(bookingRepository.findLastAndNextBookingIds(anyList(), anyString(), any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
 
         List<ItemDtoOut> result = itemService.getItems(requestor.getId(), 0, 10);
@@ -332,20 +378,20 @@ class ItemServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(item.getId(), result.get(0).getId());
-        verify(userRepository).findById(anyInt());
+        verify(userRepository).existsById(anyInt());
         verify(itemRepository).findByOwnerId(anyInt(), any(Pageable.class));
     }
 
     @Test
     void getItems_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> itemService.getItems(requestor.getId(), 0, 10));
     }
 
     @Test
     void search_NullText() {
-        List<Item> result = itemService.search(null);
+        List<Item> result = itemService.search(null, 0, 10);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
@@ -353,7 +399,7 @@ class ItemServiceTest {
 
     @Test
     void search_BlankText() {
-        List<Item> result = itemService.search("   ");
+        List<Item> result = itemService.search("   ", 0, 10);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
@@ -361,9 +407,9 @@ class ItemServiceTest {
 
     @Test
     void search_NoMatchingItems() {
-        when(itemRepository.searchByNameAndDescription(anyString())).thenReturn(Collections.emptyList());
+        when(itemSearchEngine.search(anyString(), any(Pageable.class))).thenReturn(Collections.emptyList());
 
-        List<Item> result = itemService.search("nonexistent");
+        List<Item> result = itemService.search("nonexistent", 0, 10);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
@@ -376,10 +422,10 @@ class ItemServiceTest {
         Item matchingItem2 = new Item();
         matchingItem2.setId(2);
 
-        when(itemRepository.searchByNameAndDescription(anyString()))
+        when(itemSearchEngine.search(anyString(), any(Pageable.class)))
                 .thenReturn(Arrays.asList(matchingItem1, matchingItem2));
 
-        List<Item> result = itemService.search("matching");
+        List<Item> result = itemService.search("matching", 0, 10);
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -387,6 +433,15 @@ class ItemServiceTest {
         assertEquals(matchingItem2.getId(), result.get(1).getId());
     }
 
+    @Test
+    void search_SizeIsCapped() {
+        when(itemSearchEngine.search(anyString(), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        itemService.search("matching", 0, 10_000);
+
+        verify(itemSearchEngine).search(eq("matching"), eq(PageRequest.of(0, 100)));
+    }
+
 
     @Test
     void addComment_Success() {
@@ -453,4 +508,117 @@ class ItemServiceTest {
                 () -> itemService.addComment(requestor.getId(), item.getId(), commentDto));
     }
 
-}
\ No newline at end of file
+    @Test
+    void getComments_Success() {
+        when(itemRepository.existsById(anyInt())).thenReturn(true);
+        when(commentRepository.findAllByItemIdAfter(anyInt(), any(LocalDateTime.class), anyInt(), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(comment));
+
+        List<CommentDtoOut> result = itemService.getComments(item.getId(), null, 10);
+
+        assertEquals(1, result.size());
+        assertEquals(comment.getId(), result.get(0).getId());
+        assertEquals(requestor.getName(), result.get(0).getAuthorName());
+    }
+
+    @Test
+    void getComments_ItemNotFound() {
+        when(itemRepository.existsById(anyInt())).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> itemService.getComments(item.getId(), null, 10));
+    }
+
+    @Test
+    void getAvailability_ReturnsGapsBetweenActiveBookings() {
+        item.setAvailable(true);
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 10, 0, 0);
+
+        Booking first = new Booking();
+        first.setItem(item);
+        first.setStart(from.minusDays(1));
+        first.setEnd(from.plusDays(2));
+
+        Booking second = new Booking();
+        second.setItem(item);
+        second.setStart(from.plusDays(4));
+        second.setEnd(from.plusDays(5));
+
+        Booking nested = new Booking();
+        nested.setItem(item);
+        nested.setStart(from.plusDays(4));
+        nested.setEnd(from.plusDays(4).plusHours(2));
+
+        when(itemRepository.findAllById(List.of(item.getId()))).thenReturn(List.of(item));
+        when(bookingRepository.findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(
+                List.of(item.getId()), List.of(BookingState.WAITING, BookingState.APPROVED), to, from)).thenReturn(List.of(first, second, nested));
+
+        ItemAvailabilityDto availability = itemService.getAvailability(item.getId(), from, to);
+
+        assertEquals(item.getId(), availability.getItemId());
+        assertEquals(2, availability.getFreeSlots().size());
+        assertEquals(from.plusDays(2), availability.getFreeSlots().get(0).getStart());
+        assertEquals(from.plusDays(4), availability.getFreeSlots().get(0).getEnd());
+        assertEquals(from.plusDays(5), availability.getFreeSlots().get(1).getStart());
+        assertEquals(to, availability.getFreeSlots().get(1).getEnd());
+    }
+
+    @Test
+    void getAvailability_NoBookings() {
+        item.setAvailable(true);
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 10, 0, 0);
+
+        when(itemRepository.findAllById(List.of(item.getId()))).thenReturn(List.of(item));
+        when(bookingRepository.findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(
+                List.of(item.getId()), List.of(BookingState.WAITING, BookingState.APPROVED), to, from)).thenReturn(Collections.emptyList());
+
+        ItemAvailabilityDto availability = itemService.getAvailability(item.getId(), from, to);
+
+        assertEquals(1, availability.getFreeSlots().size());
+        assertEquals(from, availability.getFreeSlots().get(0).getStart());
+        assertEquals(to, availability.getFreeSlots().get(0).getEnd());
+    }
+
+    @Test
+    void getAvailability_UnavailableItemHasNoFreeSlots() {
+        item.setAvailable(false);
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 10, 0, 0);
+
+        when(itemRepository.findAllById(List.of(item.getId()))).thenReturn(List.of(item));
+
+        ItemAvailabilityDto availability = itemService.getAvailability(item.getId(), from, to);
+
+        assertTrue(availability.getFreeSlots().isEmpty());
+        verify(bookingRepository, never()).findAllByItem_IdInAndStatusInAndStartBeforeAndEndAfterOrderByStartAsc(
+                anyList(), anyList(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void getAvailability_ItemNotFound() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 10, 0, 0);
+
+        when(itemRepository.findAllById(List.of(1, 2))).thenReturn(List.of(item));
+
+        assertThrows(EntityNotFoundException.class, () -> itemService.getAvailability(List.of(1, 2), from, to));
+    }
+
+    @Test
+    void getAvailability_InvalidPeriod() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 10, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        assertThrows(BadRequestException.class, () -> itemService.getAvailability(item.getId(), from, to));
+    }
+
+    @Test
+    void getAvailability_PeriodTooLong() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusYears(2);
+
+        assertThrows(BadRequestException.class, () -> itemService.getAvailability(item.getId(), from, to));
+    }
+
+}
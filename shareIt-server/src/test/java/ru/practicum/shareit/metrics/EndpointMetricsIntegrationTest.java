@@ -0,0 +1,85 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+@Transactional
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(properties = "spring.datasource.username=shareit")
+class EndpointMetricsIntegrationTest {
+
+    private final EntityManager em;
+
+    private final MockMvc mockMvc;
+
+    private final MeterRegistry meterRegistry;
+
+
+    @Test
+    @SneakyThrows
+    void findAll_RecordsStatementsRowsAndLatency() {
+        em.persist(new User(null, "metrics user 1", "metrics1@email.com"));
+        em.persist(new User(null, "metrics user 2", "metrics2@email.com"));
+        em.flush();
+
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("shareit.endpoint.jdbc.statements")
+                .tag("controller", "UserController")
+                .tag("method", "findAll")
+                .tag("status", "200")
+                .summary();
+        DistributionSummary rows = meterRegistry.get("shareit.endpoint.jdbc.rows")
+                .tag("controller", "UserController")
+                .tag("method", "findAll")
+                .summary();
+
+        assertEquals(1, statements.count());
+        assertEquals(1, statements.totalAmount());
+        assertTrue(rows.totalAmount() >= 2);
+        assertEquals(1, meterRegistry.get("shareit.endpoint.latency")
+                .tag("controller", "UserController")
+                .tag("method", "findAll")
+                .timer()
+                .count());
+        assertEquals(1, meterRegistry.get("shareit.endpoint.jdbc.time")
+                .tag("controller", "UserController")
+                .tag("method", "findAll")
+                .timer()
+                .count());
+    }
+
+    @Test
+    @SneakyThrows
+    void findById_RecordsErrorStatus() {
+        mockMvc.perform(get("/users/{userId}", Integer.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        assertTrue(meterRegistry.get("shareit.endpoint.latency")
+                .tag("controller", "UserController")
+                .tag("method", "findById")
+                .tag("status", "404")
+                .timer()
+                .count() >= 1);
+    }
+
+}
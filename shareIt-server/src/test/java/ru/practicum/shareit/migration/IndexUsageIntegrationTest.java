@@ -0,0 +1,116 @@
+package ru.practicum.shareit.migration;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.repository.JpaBookingRepository;
+import ru.practicum.shareit.item.repository.JpaCommentRepository;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.request.repository.JpaRequestRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.migration.SqlCapturingInspector")
+class IndexUsageIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaBookingRepository bookingRepository;
+
+    @Autowired
+    private JpaItemRepository itemRepository;
+
+    @Autowired
+    private JpaCommentRepository commentRepository;
+
+    @Autowired
+    private JpaRequestRepository requestRepository;
+
+
+    @Test
+    void findBookingsByBooker_IdUsesIndex() {
+        assertUsesIndex("idx_bookings_booker_start", () -> bookingRepository.findBookingsByBooker_Id(1,
+                PageRequest.of(0, 10, Sort.by("start").descending())));
+    }
+
+    @Test
+    void findBookingsByItem_Owner_IdUsesIndex() {
+        assertUsesIndex("idx_items_owner", () -> bookingRepository.findBookingsByItem_Owner_Id(1,
+                PageRequest.of(0, 10, Sort.by("start").descending())));
+    }
+
+    @Test
+    void findFirstByItemIdAndStatusAndStartLessThanEqualUsesIndex() {
+        assertUsesIndex("idx_bookings_item_status_start", () -> bookingRepository
+                .findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDescIdDesc(1, BookingState.APPROVED,
+                        LocalDateTime.now()));
+    }
+
+    @Test
+    void findByOwnerIdUsesIndex() {
+        assertUsesIndex("idx_items_owner", () -> itemRepository.findByOwnerId(1, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void findAllByRequestIdInUsesIndex() {
+        assertUsesIndex("idx_items_request", () -> itemRepository.findAllByRequestIdIn(List.of(1, 2)));
+    }
+
+    @Test
+    void findAllByItemIdOrderByCreatedDescIdDescUsesIndex() {
+        assertUsesIndex("idx_comments_item_created", () -> commentRepository
+                .findAllByItemIdOrderByCreatedDescIdDesc(1, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findByRequestorIdOrderByCreatedDescUsesIndex() {
+        assertUsesIndex("idx_requests_requestor_created", () -> requestRepository
+                .findByRequestorIdOrderByCreatedDesc(1));
+    }
+
+
+    private void assertUsesIndex(String index, Runnable repositoryCall) {
+        SqlCapturingInspector.STATEMENTS.clear();
+        repositoryCall.run();
+
+        assertEquals(1, SqlCapturingInspector.STATEMENTS.size(), "Statements: " + SqlCapturingInspector.STATEMENTS);
+        String plan = explain(SqlCapturingInspector.STATEMENTS.get(0));
+        assertTrue(plan.toUpperCase().contains(index.toUpperCase()), "Index " + index + " not used: " + plan);
+    }
+
+    @SneakyThrows
+    private String explain(String sql) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setNull(i, Types.NULL);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.migration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+@DataJpaTest(properties = "shareit.id.allocation-size=" + SequenceAllocationIntegrationTest.ALLOCATION_SIZE)
+class SequenceAllocationIntegrationTest {
+
+    static final int ALLOCATION_SIZE = 120;
+
+    @Autowired
+    private EntityManager em;
+
+
+    @Test
+    void sequencesIncrementByAllocationSize() {
+        for (String sequence : List.of("USERS_SEQ", "REQUESTS_SEQ", "ITEMS_SEQ", "BOOKINGS_SEQ", "COMMENTS_SEQ")) {
+            Number increment = (Number) em.createNativeQuery("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES" +
+                            " WHERE UPPER(SEQUENCE_NAME) = :name")
+                    .setParameter("name", sequence)
+                    .getSingleResult();
+
+            assertEquals(ALLOCATION_SIZE, increment.intValue(), sequence);
+        }
+    }
+
+    @Test
+    void persist_AllocatesConsecutiveIdsFromOneBlock() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ALLOCATION_SIZE; i++) {
+            User user = new User("sequence user " + i, "sequence" + i + "@email.com");
+            em.persist(user);
+            users.add(user);
+        }
+
+        for (int i = 1; i < users.size(); i++) {
+            assertEquals(users.get(i - 1).getId() + 1, users.get(i).getId());
+        }
+    }
+
+    @Test
+    void persist_AllocatesPositiveConsecutiveItemIds() {
+        User owner = new User("sequence owner", "sequence-owner@email.com");
+        em.persist(owner);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ALLOCATION_SIZE + 1; i++) {
+            Item item = new Item(null, "sequence item " + i, "sequence item description", true, owner, null);
+            em.persist(item);
+            items.add(item);
+        }
+
+        assertTrue(items.get(0).getId() > 0);
+        for (int i = 1; i < ALLOCATION_SIZE; i++) {
+            assertEquals(items.get(i - 1).getId() + 1, items.get(i).getId());
+        }
+        assertTrue(items.get(ALLOCATION_SIZE).getId() > items.get(ALLOCATION_SIZE - 1).getId());
+    }
+
+}
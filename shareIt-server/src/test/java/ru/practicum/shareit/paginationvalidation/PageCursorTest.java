@@ -0,0 +1,59 @@
+package ru.practicum.shareit.paginationvalidation;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageCursorTest {
+
+    @Test
+    void decodeTimeAndId_RoundTrip() {
+        LocalDateTime time = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123456000);
+
+        PageCursor cursor = PageCursor.decodeTimeAndId(PageCursor.of(time, 42).encode());
+
+        assertEquals(time, cursor.getTime());
+        assertEquals(42, cursor.getId());
+    }
+
+    @Test
+    void decodeId_RoundTrip() {
+        PageCursor cursor = PageCursor.decodeId(PageCursor.of(7).encode());
+
+        assertNull(cursor.getTime());
+        assertEquals(7, cursor.getId());
+    }
+
+    @Test
+    void decode_BlankCursorMeansFirstPage() {
+        assertNull(PageCursor.decodeId(""));
+        assertNull(PageCursor.decodeTimeAndId(null));
+    }
+
+    @Test
+    void decode_InvalidCursor() {
+        String idCursor = PageCursor.of(7).encode();
+
+        assertThrows(BadRequestException.class, () -> PageCursor.decodeTimeAndId("not a cursor"));
+        assertThrows(BadRequestException.class, () -> PageCursor.decodeTimeAndId(idCursor));
+        assertThrows(BadRequestException.class, () -> PageCursor.decodeId(
+                PageCursor.of(LocalDateTime.now(), 7).encode()));
+    }
+
+    @Test
+    void nextPageHeaders_OnlyForFullPage() {
+        assertTrue(PageCursor.nextPageHeaders(List.of(1, 2), 2, PageCursor::of)
+                .containsKey(PageCursor.NEXT_CURSOR_HEADER));
+        assertFalse(PageCursor.nextPageHeaders(List.of(1), 2, PageCursor::of)
+                .containsKey(PageCursor.NEXT_CURSOR_HEADER));
+    }
+
+}
@@ -5,9 +5,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.model.User;
@@ -90,9 +90,9 @@ class JpaRequestRepositoryIntegrationTest {
     void findAllByRequestorIdNot() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        Page<Request> requestsPage = requestRepository.findAllByRequestorIdNot(user1.getId(), pageable);
+        Slice<Request> requestsSlice = requestRepository.findAllByRequestorIdNot(user1.getId(), pageable);
 
-        List<Request> requestList = requestsPage.getContent();
+        List<Request> requestList = requestsSlice.getContent();
 
         assertThat(requestList).hasSize(1);
         assertThat(requestList.get(0).getRequestor().getId()).isEqualTo(user2.getId());
@@ -6,11 +6,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
 import ru.practicum.shareit.item.model.Item;
@@ -51,9 +50,6 @@ class RequestServiceTest {
     @Mock
     private JpaItemRepository itemRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
-
     @Mock
     private PaginationValidator paginationValidator;
 
@@ -107,7 +103,6 @@ class RequestServiceTest {
     @Test
     void addRequest_Success() {
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
-        when(modelMapper.map(any(RequestDto.class), any(Class.class))).thenReturn(request);
         when(requestRepository.save(any(Request.class))).thenReturn(request);
 
         Request result = requestService.add(requestor.getId(), requestDto);
@@ -119,26 +114,18 @@ class RequestServiceTest {
 
     @Test
     void getRequestsSent_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> requestService.getRequestsSent(requestor.getId()));
     }
 
     @Test
     void getRequestsSent_Success() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(requestRepository.findByRequestorIdOrderByCreatedDesc(anyInt()))
                 .thenReturn(Collections.singletonList(request));
         when(itemRepository.findAllByRequestIdIn(anyList())).thenReturn(Collections.emptyList());
 
-        RequestDto mappedRequestDto = new RequestDto();
-        mappedRequestDto.setId(request.getId());
-        mappedRequestDto.setDescription(request.getDescription());
-        mappedRequestDto.setCreated(request.getCreated());
-        mappedRequestDto.setItems(Collections.emptyList());
-
-        when(modelMapper.map(any(Request.class), eq(RequestDto.class))).thenReturn(mappedRequestDto);
-
         List<RequestDto> result = requestService.getRequestsSent(requestor.getId());
 
         assertNotNull(result);
@@ -149,7 +136,7 @@ class RequestServiceTest {
 
     @Test
     void getRequest_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class,
                 () -> requestService.getRequest(request.getId(), requestor.getId()));
@@ -157,7 +144,7 @@ class RequestServiceTest {
 
     @Test
     void getRequest_RequestNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(requestRepository.findById(anyInt())).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
@@ -166,10 +153,9 @@ class RequestServiceTest {
 
     @Test
     void getRequest_Success() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(requestRepository.findById(anyInt())).thenReturn(Optional.of(request));
         when(itemRepository.findAllByRequestIdIn(anyList())).thenReturn(Collections.emptyList());
-        when(modelMapper.map(any(Request.class), eq(RequestDto.class))).thenReturn(requestDto);
 
         RequestDto result = requestService.getRequest(request.getId(), requestor.getId());
 
@@ -180,7 +166,7 @@ class RequestServiceTest {
 
     @Test
     void getRequests_UserNotFound() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyInt())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class,
                 () -> requestService.getRequests(0, 10, requestor.getId()));
@@ -188,7 +174,7 @@ class RequestServiceTest {
 
     @Test
     void getRequests_InvalidParameters_FromAndSizeZero() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         doThrow(new BadRequestException(Item.class, "0", "Некорректные параметры пагинации"))
                 .when(paginationValidator).validateSearchParameters(eq(0), eq(0));
 
@@ -197,7 +183,7 @@ class RequestServiceTest {
 
     @Test
     void getRequests_InvalidParameters_FromNegative() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         doThrow(new BadRequestException(Item.class, "-1", "Некорректные параметры пагинации"))
                 .when(paginationValidator).validateSearchParameters(eq(-1), anyInt());
 
@@ -206,7 +192,7 @@ class RequestServiceTest {
 
     @Test
     void getRequests_InvalidParameters_SizeNegative() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         doThrow(new BadRequestException(Item.class, "-1", "Некорректные параметры пагинации"))
                 .when(paginationValidator).validateSearchParameters(anyInt(), eq(-1));
 
@@ -215,19 +201,11 @@ class RequestServiceTest {
 
     @Test
     void getRequests_Success() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(requestRepository.findAllByRequestorIdNot(anyInt(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.singletonList(request)));
+                .thenReturn(new SliceImpl<>(Collections.singletonList(request)));
         when(itemRepository.findAllByRequestIdIn(anyList())).thenReturn(Collections.emptyList());
 
-        RequestDto mappedRequestDto = new RequestDto();
-        mappedRequestDto.setId(request.getId());
-        mappedRequestDto.setDescription(request.getDescription());
-        mappedRequestDto.setCreated(request.getCreated());
-        mappedRequestDto.setItems(Collections.emptyList());
-
-        when(modelMapper.map(any(Request.class), eq(RequestDto.class))).thenReturn(mappedRequestDto);
-
         List<RequestDto> result = requestService.getRequests(0, 10, requestor.getId());
 
         assertNotNull(result);
@@ -238,51 +216,42 @@ class RequestServiceTest {
 
     @Test
     void getRequests_EmptyRequestList() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(requestRepository.findAllByRequestorIdNot(anyInt(), any(Pageable.class)))
-                .thenReturn(Page.empty());
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<RequestDto> result = requestService.getRequests(0, 10, requestor.getId());
 
         assertEquals(0, result.size());
-        verify(userRepository).findById(requestor.getId());
+        verify(userRepository).existsById(requestor.getId());
         verify(requestRepository).findAllByRequestorIdNot(anyInt(), any(Pageable.class));
     }
 
     @Test
     void getRequests_NotEmptyRequestList() {
         List<Request> requests = List.of(request);
-        Page<Request> requestPage = new PageImpl<>(requests);
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        Slice<Request> requestSlice = new SliceImpl<>(requests);
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(requestRepository.findAllByRequestorIdNot(anyInt(), any(Pageable.class)))
-                .thenReturn(requestPage);
+                .thenReturn(requestSlice);
         when(itemRepository.findAllByRequestIdIn(anyList())).thenReturn(Collections.emptyList());
-        when(modelMapper.map(any(Request.class), eq(RequestDto.class))).thenReturn(requestDto);
 
         List<RequestDto> result = requestService.getRequests(0, 10, requestor.getId());
 
         assertEquals(1, result.size());
         assertEquals(requestDto.getId(), result.get(0).getId());
-        verify(userRepository).findById(requestor.getId());
+        verify(userRepository).existsById(requestor.getId());
         verify(requestRepository).findAllByRequestorIdNot(anyInt(), any(Pageable.class));
         verify(itemRepository).findAllByRequestIdIn(anyList());
     }
 
     @Test
     void getRequests_WithPagination_SecondPage() {
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(requestor));
+        when(userRepository.existsById(anyInt())).thenReturn(true);
         when(requestRepository.findAllByRequestorIdNot(anyInt(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.singletonList(request), PageRequest.of(1, 10), 20));
+                .thenReturn(new SliceImpl<>(Collections.singletonList(request), PageRequest.of(1, 10), true));
         when(itemRepository.findAllByRequestIdIn(anyList())).thenReturn(Collections.emptyList());
 
-        RequestDto mappedRequestDto = new RequestDto();
-        mappedRequestDto.setId(request.getId());
-        mappedRequestDto.setDescription(request.getDescription());
-        mappedRequestDto.setCreated(request.getCreated());
-        mappedRequestDto.setItems(Collections.emptyList());
-
-        when(modelMapper.map(any(Request.class), eq(RequestDto.class))).thenReturn(mappedRequestDto);
-
         List<RequestDto> result = requestService.getRequests(10, 10, requestor.getId());
 
         assertNotNull(result);
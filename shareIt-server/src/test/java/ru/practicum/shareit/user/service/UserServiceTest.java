@@ -9,7 +9,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.repository.JpaBookingCounterRepository;
 import ru.practicum.shareit.exceptions.EntityNotFoundException;
+import ru.practicum.shareit.item.repository.JpaItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.JpaUserRepository;
 
@@ -34,6 +37,15 @@ class UserServiceTest {
     @Mock
     private JpaUserRepository userRepository;
 
+    @Mock
+    private JpaBookingCounterRepository bookingCounterRepository;
+
+    @Mock
+    private JpaItemRepository itemRepository;
+
+    @Mock
+    private ItemSearchEngine itemSearchEngine;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -116,6 +128,8 @@ class UserServiceTest {
 
         assertEquals(newUser.getName(), savedUser.getName());
         assertEquals(newUser.getEmail(), savedUser.getEmail());
+        assertEquals("name", oldUser.getName());
+        assertEquals("e@mail.com", oldUser.getEmail());
     }
 
     @Test
@@ -217,9 +231,13 @@ class UserServiceTest {
         user.setId(userId);
 
         doNothing().when(userRepository).deleteById(userId);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(itemRepository.findIdsByOwnerId(userId)).thenReturn(List.of(3, 4));
 
         userService.deleteById(userId);
+
+        verify(bookingCounterRepository).subtractBookingsOfBooker(userId);
+        verify(itemSearchEngine).removeAll(List.of(3, 4));
     }
 
     @Test
@@ -228,7 +246,7 @@ class UserServiceTest {
         Integer userId = 1;
         user.setId(userId);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class,
                 () -> userService.deleteById(userId));